@@ -25,9 +25,18 @@
 package com.elbraulio.ezload;
 
 import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.column.DoubleColumn;
 import com.elbraulio.ezload.column.GenericColumn;
+import com.elbraulio.ezload.column.IntColumn;
+import com.elbraulio.ezload.column.LongColumn;
 import com.elbraulio.ezload.column.Nullable;
 import com.elbraulio.ezload.constrain.Constrain;
+import com.elbraulio.ezload.constrain.DoubleConstrain;
+import com.elbraulio.ezload.constrain.IntConstrain;
+import com.elbraulio.ezload.constrain.LongConstrain;
+import com.elbraulio.ezload.transform.DoubleTransform;
+import com.elbraulio.ezload.transform.IntTransform;
+import com.elbraulio.ezload.transform.LongTransform;
 import com.elbraulio.ezload.transform.Transform;
 import com.elbraulio.ezload.value.DoubleValue;
 import com.elbraulio.ezload.value.IntValue;
@@ -97,6 +106,60 @@ public final class EzCol {
         );
     }
 
+    /**
+     * Create a new primitive int column. Values are never boxed, from the
+     * transform to the prepared statement.
+     *
+     * @param position  column position from left to right, starting from 0.
+     * @param name      column name
+     * @param constrain column constrain.
+     * @param transform column transform.
+     * @return {@link Column}
+     * @since 0.4.0
+     */
+    public static Column<Integer> primitiveInt(
+            int position, String name, IntConstrain constrain,
+            IntTransform transform
+    ) {
+        return new IntColumn(position, name, constrain, transform);
+    }
+
+    /**
+     * Create a new primitive long column. Values are never boxed, from the
+     * transform to the prepared statement.
+     *
+     * @param position  column position from left to right, starting from 0.
+     * @param name      column name
+     * @param constrain column constrain.
+     * @param transform column transform.
+     * @return {@link Column}
+     * @since 0.4.0
+     */
+    public static Column<Long> primitiveLong(
+            int position, String name, LongConstrain constrain,
+            LongTransform transform
+    ) {
+        return new LongColumn(position, name, constrain, transform);
+    }
+
+    /**
+     * Create a new primitive double column. Values are never boxed, from the
+     * transform to the prepared statement.
+     *
+     * @param position  column position from left to right, starting from 0.
+     * @param name      column name
+     * @param constrain column constrain.
+     * @param transform column transform.
+     * @return {@link Column}
+     * @since 0.4.0
+     */
+    public static Column<Double> primitiveDouble(
+            int position, String name, DoubleConstrain constrain,
+            DoubleTransform transform
+    ) {
+        return new DoubleColumn(position, name, constrain, transform);
+    }
+
     /**
      * Make a column nullable. It means that if the given expression is found, it 
      * will return a null.
@@ -26,11 +26,30 @@ package com.elbraulio.ezload;
 
 import com.elbraulio.ezload.exception.EzException;
 import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.reader.FileRanges;
+import com.elbraulio.ezload.sql.ChunkPolicy;
+import com.elbraulio.ezload.sql.DataSourceInsert;
 import com.elbraulio.ezload.sql.InsertFromParser;
+import com.elbraulio.ezload.sql.LoadOptions;
+import com.elbraulio.ezload.sql.LoadResult;
+import com.elbraulio.ezload.sql.MultiRowInsert;
+import com.elbraulio.ezload.sql.MultiRowSql;
+import com.elbraulio.ezload.sql.ParallelInsert;
+import com.elbraulio.ezload.sql.PipelinedInsert;
 import com.elbraulio.ezload.sql.SqlFromParser;
+import com.elbraulio.ezload.sql.TableCheckpoint;
 
+import javax.sql.DataSource;
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Factory to insert to a data base from EzLoad tools.
@@ -41,7 +60,13 @@ import java.sql.Connection;
 public final class EzInsert {
 
     /**
-     * Insert a source to a data base.
+     * Insert a source to a data base streaming it in bounded batches, see
+     * {@link ChunkPolicy#streaming()}: the batch of the driver holds at most
+     * {@link ChunkPolicy#STREAMING_ROWS} rows or about
+     * {@link ChunkPolicy#STREAMING_BYTES} bytes of values, whatever the size
+     * of the source is. Use {@link ChunkPolicy#single()} through
+     * {@link LoadOptions#chunks(ChunkPolicy)} to insert the whole source as
+     * one batch.
      *
      * @param connection     connection to data base.
      * @param table          table name to insert.
@@ -54,9 +79,9 @@ public final class EzInsert {
             Connection connection, String table, Parser parser,
             BufferedReader bufferedReader
     ) throws EzException {
-        return new InsertFromParser(
-                parser, new SqlFromParser(table, parser), Integer.MAX_VALUE
-        ).execute(connection, bufferedReader);
+        return EzInsert.fromParser(
+                connection, table, parser, new BufferedLines(bufferedReader)
+        );
     }
 
     /**
@@ -78,4 +103,198 @@ public final class EzInsert {
                 parser, new SqlFromParser(table, parser), chunkSize
         ).execute(connection, bufferedReader);
     }
+
+    /**
+     * Insert a source to a data base streaming it in bounded batches, see
+     * {@link ChunkPolicy#streaming()}.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param reader     read the source.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long fromParser(
+            Connection connection, String table, Parser parser,
+            EzReader reader
+    ) throws EzException {
+        final LoadResult result = EzInsert.load(
+                connection, table, parser, reader, new LoadOptions()
+        );
+        return result.loaded() + result.unknown();
+    }
+
+    /**
+     * Insert a source to a data base.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param reader     read the source.
+     * @param chunkSize  chunk size to execute batch.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long fromParser(
+            Connection connection, String table, Parser parser,
+            EzReader reader, int chunkSize
+    ) throws EzException {
+        return new InsertFromParser(
+                parser, new SqlFromParser(table, parser), chunkSize
+        ).execute(connection, reader);
+    }
+
+    /**
+     * Insert a source to a data base through many connections. Each writer
+     * uses its own connection and commits every chunk it inserts.
+     *
+     * @param dataSource connections to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param reader     read the source.
+     * @param chunkSize  chunk size to execute batch.
+     * @param writers    number of writer threads and connections.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long fromParser(
+            DataSource dataSource, String table, Parser parser,
+            EzReader reader, int chunkSize, int writers
+    ) throws EzException {
+        return new DataSourceInsert(
+                parser, new SqlFromParser(table, parser), chunkSize, writers
+        ).execute(dataSource, reader);
+    }
+
+    /**
+     * Insert a file to a data base, parsing its ranges in parallel.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format, shared by every parsing thread.
+     * @param ranges     file ranges.
+     * @param chunkSize  chunk size to execute batch.
+     * @param ordered    true to insert in the same order than the file.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long parallel(
+            Connection connection, String table, Parser parser,
+            FileRanges ranges, int chunkSize, boolean ordered
+    ) throws EzException {
+        return new ParallelInsert(
+                parser, new SqlFromParser(table, parser), chunkSize,
+                ForkJoinPool.commonPool(), ordered
+        ).execute(connection, ranges);
+    }
+
+    /**
+     * Insert a source to a data base, parsing the next chunk while the
+     * current one is executed.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param reader     read the source.
+     * @param chunkSize  chunk size to execute batch.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long pipelined(
+            Connection connection, String table, Parser parser,
+            EzReader reader, int chunkSize
+    ) throws EzException {
+        return new PipelinedInsert(
+                parser, new SqlFromParser(table, parser), chunkSize
+        ).execute(connection, reader);
+    }
+
+    /**
+     * Insert a source to a data base sending many rows on each statement,
+     * keeping every statement under <code>maxParameters</code> bind
+     * parameters.
+     *
+     * @param connection    connection to data base.
+     * @param table         table name to insert.
+     * @param parser        source format.
+     * @param reader        read the source.
+     * @param chunkSize     chunk size to execute batch.
+     * @param maxParameters max bind parameters per statement.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public static long multiRow(
+            Connection connection, String table, Parser parser,
+            EzReader reader, int chunkSize, int maxParameters
+    ) throws EzException {
+        return new MultiRowInsert(
+                parser, new MultiRowSql(table, parser, maxParameters),
+                chunkSize
+        ).execute(connection, reader);
+    }
+
+    /**
+     * Insert a source to a data base as <code>options</code> say, like
+     * sending wrong lines to rejects or committing every some rows, see
+     * {@link LoadOptions}.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param reader     read the source.
+     * @param options    how to load.
+     * @return loaded and rejected lines and executed batches.
+     * @throws EzException EzLoad error or too many rejected lines.
+     */
+    public static LoadResult load(
+            Connection connection, String table, Parser parser,
+            EzReader reader, LoadOptions options
+    ) throws EzException {
+        return new InsertFromParser(
+                parser, new SqlFromParser(table, parser), options
+        ).load(connection, reader);
+    }
+
+    /**
+     * Insert a file to a data base that can be restarted after a failure.
+     * Each commit saves the file offset of the last committed line on a
+     * <code>ezload_checkpoint</code> table, created if it does not exist, on
+     * the same transaction. A restarted load seeks the file to that offset.
+     * The file is identified by its path, size and modification time, so a
+     * changed file is loaded from the start.
+     *
+     * @param connection connection to data base.
+     * @param table      table name to insert.
+     * @param parser     source format.
+     * @param file       file to read.
+     * @param charset    file charset.
+     * @param options    how to load, loads that leave commits to the
+     *                   connection commit every chunk.
+     * @return loaded and rejected lines of this run.
+     * @throws EzException EzLoad error.
+     */
+    public static LoadResult resumable(
+            Connection connection, String table, Parser parser, Path file,
+            Charset charset, LoadOptions options
+    ) throws EzException {
+        try {
+            final TableCheckpoint checkpoint = new TableCheckpoint(
+                    file.toAbsolutePath() + ":" + Files.size(file) + ":" +
+                            Files.getLastModifiedTime(file).toMillis()
+            );
+            checkpoint.create(connection);
+            checkpoint.read(connection);
+            try (EzReader reader = checkpoint.open(file, charset)) {
+                return new InsertFromParser(
+                        parser, new SqlFromParser(table, parser),
+                        options.checkpoint(checkpoint)
+                ).load(connection, reader);
+            }
+        } catch (SQLException e) {
+            throw new EzException("Sql error: " + e.toString(), e);
+        } catch (IOException e) {
+            throw new EzException("IO error: " + e.toString(), e);
+        }
+    }
 }
@@ -57,4 +57,62 @@ public interface Action {
      * @throws EzException when action fails.
      */
     void execute(String value) throws EzException;
+
+    /**
+     * Execute an action for Long.
+     *
+     * @param value long value.
+     * @throws EzException when action fails, by default long values are not
+     *                     supported.
+     * @since 0.4.0
+     */
+    default void execute(Long value) throws EzException {
+        throw new EzException(
+                "long values are not supported by " + this.getClass()
+        );
+    }
+
+    /**
+     * Execute an action for a null value whose type is not known. By
+     * default it is executed as a null String.
+     *
+     * @throws EzException when action fails.
+     * @since 0.4.0
+     */
+    default void executeNull() throws EzException {
+        this.execute((String) null);
+    }
+
+    /**
+     * Execute an action for a primitive int. By default it is boxed.
+     *
+     * @param value int value.
+     * @throws EzException when action fails.
+     * @since 0.4.0
+     */
+    default void execute(int value) throws EzException {
+        this.execute(Integer.valueOf(value));
+    }
+
+    /**
+     * Execute an action for a primitive long. By default it is boxed.
+     *
+     * @param value long value.
+     * @throws EzException when action fails.
+     * @since 0.4.0
+     */
+    default void execute(long value) throws EzException {
+        this.execute(Long.valueOf(value));
+    }
+
+    /**
+     * Execute an action for a primitive double. By default it is boxed.
+     *
+     * @param value double value.
+     * @throws EzException when action fails.
+     * @since 0.4.0
+     */
+    default void execute(double value) throws EzException {
+        this.execute(Double.valueOf(value));
+    }
 }
@@ -98,4 +98,68 @@ public final class AddPreparedStatement implements Action {
             );
         }
     }
+
+    @Override
+    public void execute(Long value) throws EzException {
+        try {
+            if (value != null)
+                this.psmt.setLong(this.index, value);
+            else
+                this.psmt.setNull(this.index, Types.BIGINT);
+        } catch (SQLException e) {
+            throw new EzException(
+                    "setLong error with value '" + value + "': " +
+                            e.toString(),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public void executeNull() throws EzException {
+        try {
+            this.psmt.setNull(this.index, Types.NULL);
+        } catch (SQLException e) {
+            throw new EzException("setNull error: " + e.toString(), e);
+        }
+    }
+
+    @Override
+    public void execute(int value) throws EzException {
+        try {
+            this.psmt.setInt(this.index, value);
+        } catch (SQLException e) {
+            throw new EzException(
+                    "setInt error with value '" + value + "': " +
+                            e.toString(),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public void execute(long value) throws EzException {
+        try {
+            this.psmt.setLong(this.index, value);
+        } catch (SQLException e) {
+            throw new EzException(
+                    "setLong error with value '" + value + "': " +
+                            e.toString(),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public void execute(double value) throws EzException {
+        try {
+            this.psmt.setDouble(this.index, value);
+        } catch (SQLException e) {
+            throw new EzException(
+                    "setDouble error with value '" + value + "': " +
+                            e.toString(),
+                    e
+            );
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+
+/**
+ * Converts a raw value and binds it to a fixed parameter of a prepared
+ * statement. Binders are built once per statement by each
+ * {@link com.elbraulio.ezload.column.Column}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface Binder {
+
+    /**
+     * Convert, check and bind a raw value.
+     *
+     * @param raw raw value.
+     * @return false if the value is not valid, nothing is bound then.
+     * @throws EzException when the value can not be bound.
+     */
+    boolean bind(String raw) throws EzException;
+
+    /**
+     * Convert, check and bind a raw field.
+     *
+     * @param field raw field.
+     * @return false if the value is not valid, nothing is bound then.
+     * @throws EzException when the value can not be bound.
+     */
+    boolean bind(Field field) throws EzException;
+
+    /**
+     * Approximate bytes that a bound value takes on the batch of the
+     * driver. By default values are text: two bytes per character plus the
+     * object that holds them.
+     *
+     * @param length length of the raw value.
+     * @return approximate bound bytes.
+     */
+    default long size(int length) {
+        return 16L + 2L * length;
+    }
+}
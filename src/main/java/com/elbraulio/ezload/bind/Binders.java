@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.line.LineScratch;
+import com.elbraulio.ezload.line.LineTarget;
+import com.elbraulio.ezload.value.Value;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * The columns of a parser compiled once into one {@link Binder} per
+ * parameter of a statement. As a {@link LineTarget}, parsers bind every
+ * field while they find it, with no intermediate values. Binders also
+ * approximate the bytes bound for each line, see {@link Binder#size(int)}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class Binders implements LineTarget {
+    private final PreparedStatement psmt;
+    private final Binder[] binders;
+    private final LineScratch scratch;
+    private final ValueLength length;
+    private long bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param columns columns of the parser, in parameter order.
+     * @param psmt    prepared statement.
+     */
+    public Binders(List<Column> columns, PreparedStatement psmt) {
+        this.psmt = psmt;
+        this.binders = new Binder[columns.size()];
+        for (int i = 0; i < this.binders.length; i++) {
+            this.binders[i] = columns.get(i).binder(psmt, i + 1);
+        }
+        this.scratch = new LineScratch(columns.size() + 2);
+        this.length = new ValueLength();
+    }
+
+    @Override
+    public void reset(int columns) {
+        if (columns != this.binders.length) {
+            throw new IllegalArgumentException(
+                    "line has " + columns + " values but there are " +
+                            this.binders.length + " binders"
+            );
+        }
+        this.bytes = 0L;
+    }
+
+    @Override
+    public boolean fill(Column column, int index, String raw)
+            throws EzException {
+        this.bytes += this.binders[index].size(raw.length());
+        return this.binders[index].bind(raw);
+    }
+
+    @Override
+    public boolean fill(Column column, int index, Field field)
+            throws EzException {
+        this.bytes += this.binders[index].size(field.length());
+        return this.binders[index].bind(field);
+    }
+
+    @Override
+    public void load(Line line) throws EzException {
+        int index = 1;
+        this.bytes = 0L;
+        for (Value value : line.values()) {
+            value.accept(this.length);
+            this.bytes += this.binders[index - 1].size(this.length.length());
+            final Action action = new AddPreparedStatement(this.psmt, index++);
+            value.accept(action);
+        }
+    }
+
+    /**
+     * Approximate bytes bound for the current line. Lines loaded as values
+     * are measured as their raw fields would be.
+     *
+     * @return approximate bound bytes.
+     */
+    public long bytes() {
+        return this.bytes;
+    }
+
+    @Override
+    public LineScratch scratch() {
+        return this.scratch;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.constrain.IntConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.transform.IntTransform;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Binds primitive int values with <code>setInt</code>.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class IntBinder implements Binder {
+    private final PreparedStatement psmt;
+    private final int index;
+    private final IntConstrain constrain;
+    private final IntTransform transform;
+
+    /**
+     * Ctor.
+     *
+     * @param psmt      prepared statement.
+     * @param index     parameter index, from 1.
+     * @param constrain value constrain.
+     * @param transform value transform.
+     */
+    public IntBinder(
+            PreparedStatement psmt, int index, IntConstrain constrain,
+            IntTransform transform
+    ) {
+        this.psmt = psmt;
+        this.index = index;
+        this.constrain = constrain;
+        this.transform = transform;
+    }
+
+    @Override
+    public boolean bind(String raw) throws EzException {
+        return this.set(this.transform.asInt(raw));
+    }
+
+    @Override
+    public boolean bind(Field field) throws EzException {
+        final int value = this.transform.readInt(field);
+        return !field.isInvalid() && this.set(value);
+    }
+
+    /**
+     * Check and bind a converted value.
+     *
+     * @param value converted value.
+     * @return false if it is not valid.
+     * @throws EzException when the value can not be bound.
+     */
+    private boolean set(int value) throws EzException {
+        if (!this.constrain.isValid(value)) {
+            return false;
+        }
+        try {
+            this.psmt.setInt(this.index, value);
+            return true;
+        } catch (SQLException e) {
+            throw new EzException(
+                    "setInt error with value '" + value + "': " +
+                            e.toString(),
+                    e
+            );
+        }
+    }
+
+    @Override
+    public long size(int length) {
+        return 8L;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.EncodedText;
+import com.elbraulio.ezload.field.Field;
+
+/**
+ * Binds a null value when the raw value is the null expression, otherwise
+ * the decorated binder is used.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class NullableBinder implements Binder {
+    private final String expression;
+    private final EncodedText encoded;
+    private final Binder decorated;
+    private final Column<?> column;
+    private final Action action;
+
+    /**
+     * Ctor.
+     *
+     * @param expression text that represents null.
+     * @param decorated  binder for not null values.
+     * @param column     column that builds the null value when a null is
+     *                   found.
+     * @param action     action that binds the null value.
+     */
+    public NullableBinder(
+            String expression, Binder decorated, Column<?> column,
+            Action action
+    ) {
+        this.expression = expression;
+        this.encoded = new EncodedText(expression);
+        this.decorated = decorated;
+        this.column = column;
+        this.action = action;
+    }
+
+    @Override
+    public boolean bind(String raw) throws EzException {
+        if (this.expression.equals(raw)) {
+            this.column.nullValue().accept(this.action);
+            return true;
+        }
+        return this.decorated.bind(raw);
+    }
+
+    @Override
+    public boolean bind(Field field) throws EzException {
+        if (field.matches(this.encoded.bytes(field.charset()))) {
+            this.column.nullValue().accept(this.action);
+            return true;
+        }
+        return this.decorated.bind(field);
+    }
+
+    @Override
+    public long size(int length) {
+        return this.decorated.size(length);
+    }
+}
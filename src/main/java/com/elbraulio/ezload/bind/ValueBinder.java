@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.value.Value;
+
+/**
+ * Binds any column through the {@link Value} returned by
+ * {@link Column#checked(String)}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class ValueBinder implements Binder {
+    private final Column<?> column;
+    private final Action action;
+
+    /**
+     * Ctor.
+     *
+     * @param column column to convert values.
+     * @param action action that binds the values.
+     */
+    public ValueBinder(Column<?> column, Action action) {
+        this.column = column;
+        this.action = action;
+    }
+
+    @Override
+    public boolean bind(String raw) throws EzException {
+        return this.accept(this.column.checked(raw));
+    }
+
+    @Override
+    public boolean bind(Field field) throws EzException {
+        return this.accept(this.column.checked(field));
+    }
+
+    /**
+     * Bind a checked value.
+     *
+     * @param value checked value.
+     * @return false if it was rejected.
+     * @throws EzException when the value can not be bound.
+     */
+    private boolean accept(Value value) throws EzException {
+        if (value == Column.REJECTED) {
+            return false;
+        }
+        value.accept(this.action);
+        return true;
+    }
+}
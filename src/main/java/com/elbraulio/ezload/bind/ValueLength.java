@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.action.Action;
+
+/**
+ * Action that measures a value the way a raw field is measured, so values
+ * of a {@link com.elbraulio.ezload.line.Line} can be sized by their
+ * {@link Binder}: text counts its characters, numbers and nulls count
+ * nothing and are sized by the binder alone.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+final class ValueLength implements Action {
+    private int length;
+
+    @Override
+    public void execute(Integer value) {
+        this.length = 0;
+    }
+
+    @Override
+    public void execute(Double value) {
+        this.length = 0;
+    }
+
+    @Override
+    public void execute(String value) {
+        if (value == null) {
+            this.length = 0;
+        } else {
+            this.length = value.length();
+        }
+    }
+
+    @Override
+    public void execute(Long value) {
+        this.length = 0;
+    }
+
+    @Override
+    public void executeNull() {
+        this.length = 0;
+    }
+
+    @Override
+    public void execute(int value) {
+        this.length = 0;
+    }
+
+    @Override
+    public void execute(long value) {
+        this.length = 0;
+    }
+
+    @Override
+    public void execute(double value) {
+        this.length = 0;
+    }
+
+    /**
+     * Length of the last measured value.
+     *
+     * @return length, 0 if it is not text.
+     */
+    int length() {
+        return this.length;
+    }
+}
@@ -24,8 +24,17 @@
 
 package com.elbraulio.ezload.column;
 
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.bind.Binder;
+import com.elbraulio.ezload.bind.ValueBinder;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.line.LineBuffer;
 import com.elbraulio.ezload.value.Value;
 
+import java.sql.PreparedStatement;
+
 /**
  * A Column represent the format that a value from a column should check.
  *
@@ -34,6 +43,23 @@ import com.elbraulio.ezload.value.Value;
  */
 public interface Column<T> {
 
+    /**
+     * Returned by {@link #checked(String)} and {@link #checked(Field)} when
+     * the constrain does not accept the value. It can not be bound.
+     *
+     * @since 0.4.0
+     */
+    Value REJECTED = action -> {
+        throw new EzException("rejected values can not be used");
+    };
+
+    /**
+     * Null of unknown type, it is executed by {@link Action#executeNull()}.
+     *
+     * @since 0.4.0
+     */
+    Value NULL = Action::executeNull;
+
     /**
      * Parsed value.
      *
@@ -72,4 +98,115 @@ public interface Column<T> {
      * @return a {@link Value}.
      */
     Value value(String raw);
+
+    /**
+     * Checks if the field is valid or not. By default the field is decoded
+     * and checked by {@link #isValid(String)}.
+     *
+     * @param field raw field to check.
+     * @return true if it is valid and false if it is not.
+     * @since 0.4.0
+     */
+    default boolean isValid(Field field) {
+        return this.isValid(field.text());
+    }
+
+    /**
+     * Return a {@link Value} from a raw field. By default the field is
+     * decoded and built by {@link #value(String)}.
+     *
+     * @param field raw field.
+     * @return a {@link Value}.
+     * @since 0.4.0
+     */
+    default Value value(Field field) {
+        return this.value(field.text());
+    }
+
+    /**
+     * Return the {@link Value} of a null. By default it is {@link #NULL}, so
+     * columns of a known type should return a typed null instead.
+     *
+     * @return a {@link Value} of a null.
+     * @since 0.4.0
+     */
+    default Value nullValue() {
+        return Column.NULL;
+    }
+
+    /**
+     * Parse the raw value once, check it and return its {@link Value}. By
+     * default it calls {@link #isValid(String)} and {@link #value(String)}.
+     *
+     * @param raw raw value.
+     * @return a {@link Value} or {@link #REJECTED} if it is not valid.
+     * @since 0.4.0
+     */
+    default Value checked(String raw) {
+        return this.isValid(raw) ? this.value(raw) : Column.REJECTED;
+    }
+
+    /**
+     * Parse the raw field once, check it and return its {@link Value}. By
+     * default it calls {@link #isValid(Field)} and {@link #value(Field)}.
+     *
+     * @param field raw field.
+     * @return a {@link Value} or {@link #REJECTED} if it is not valid.
+     * @since 0.4.0
+     */
+    default Value checked(Field field) {
+        return this.isValid(field) ? this.value(field) : Column.REJECTED;
+    }
+
+    /**
+     * Parse the raw value once, check it and set it on a {@link LineBuffer}.
+     * By default the {@link Value} from {@link #checked(String)} is set.
+     *
+     * @param raw    raw value.
+     * @param buffer buffer to fill.
+     * @param index  index of the value on the buffer.
+     * @return false if the value is not valid.
+     * @since 0.4.0
+     */
+    default boolean fill(String raw, LineBuffer buffer, int index) {
+        final Value value = this.checked(raw);
+        if (value == Column.REJECTED) {
+            return false;
+        }
+        buffer.setValue(index, value);
+        return true;
+    }
+
+    /**
+     * Parse the raw field once, check it and set it on a
+     * {@link LineBuffer}. By default the {@link Value} from
+     * {@link #checked(Field)} is set.
+     *
+     * @param field  raw field.
+     * @param buffer buffer to fill.
+     * @param index  index of the value on the buffer.
+     * @return false if the value is not valid.
+     * @since 0.4.0
+     */
+    default boolean fill(Field field, LineBuffer buffer, int index) {
+        final Value value = this.checked(field);
+        if (value == Column.REJECTED) {
+            return false;
+        }
+        buffer.setValue(index, value);
+        return true;
+    }
+
+    /**
+     * Build the {@link Binder} of this column for a statement parameter. By
+     * default values are bound through {@link #checked(String)}.
+     *
+     * @param psmt  prepared statement.
+     * @param index parameter index, from 1.
+     * @return binder.
+     * @since 0.4.0
+     */
+    default Binder binder(PreparedStatement psmt, int index) {
+        return new ValueBinder(this, new AddPreparedStatement(psmt, index));
+    }
 }
@@ -25,6 +25,8 @@
 package com.elbraulio.ezload.column;
 
 import com.elbraulio.ezload.constrain.Constrain;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.field.FieldTransform;
 import com.elbraulio.ezload.transform.Transform;
 import com.elbraulio.ezload.value.Value;
 import com.elbraulio.ezload.value.ValueFactory;
@@ -42,6 +44,7 @@ public final class GenericColumn<T> implements Column<T> {
     private final Constrain<T> constrain;
     private final Transform<T> transform;
     private final ValueFactory<T> valueFactory;
+    private final FieldTransform<T> fieldTransform;
 
     /**
      * Ctor.
@@ -62,6 +65,7 @@ public final class GenericColumn<T> implements Column<T> {
         this.constrain = constrain;
         this.transform = transform;
         this.valueFactory = valueFactory;
+        this.fieldTransform = GenericColumn.fieldTransform(transform);
     }
 
     @Override
@@ -88,4 +92,59 @@ public final class GenericColumn<T> implements Column<T> {
     public Value value(String raw) {
         return this.valueFactory.newValue(parse(raw));
     }
+
+    @Override
+    public boolean isValid(Field field) {
+        return this.constrain.isValid(this.fieldTransform.from(field));
+    }
+
+    @Override
+    public Value value(Field field) {
+        return this.valueFactory.newValue(this.fieldTransform.from(field));
+    }
+
+    @Override
+    public Value nullValue() {
+        return this.valueFactory.newValue(null);
+    }
+
+    @Override
+    public Value checked(String raw) {
+        return this.checkedValue(this.transform.from(raw));
+    }
+
+    @Override
+    public Value checked(Field field) {
+        return this.checkedValue(this.fieldTransform.from(field));
+    }
+
+    /**
+     * Check a parsed value and build its {@link Value}.
+     *
+     * @param parsed parsed value.
+     * @return a {@link Value} or {@link Column#REJECTED}.
+     */
+    private Value checkedValue(T parsed) {
+        return this.constrain.isValid(parsed)
+                ? this.valueFactory.newValue(parsed)
+                : Column.REJECTED;
+    }
+
+    /**
+     * Use the transform directly over fields when it supports it, otherwise
+     * decode the field first.
+     *
+     * @param transform column transform.
+     * @param <T>       depends on value type.
+     * @return field transform.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> FieldTransform<T> fieldTransform(
+            Transform<T> transform
+    ) {
+        if (transform instanceof FieldTransform) {
+            return (FieldTransform<T>) transform;
+        }
+        return field -> transform.from(field.text());
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.column;
+
+import com.elbraulio.ezload.bind.Binder;
+import com.elbraulio.ezload.bind.IntBinder;
+import com.elbraulio.ezload.constrain.IntConstrain;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.line.LineBuffer;
+import com.elbraulio.ezload.transform.IntTransform;
+import com.elbraulio.ezload.value.IntValue;
+import com.elbraulio.ezload.value.IntSlot;
+import com.elbraulio.ezload.value.Value;
+
+import java.sql.PreparedStatement;
+
+/**
+ * Column of primitive int values. Values are transformed, checked and bound
+ * as primitives, so no box is created for them.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class IntColumn implements Column<Integer> {
+    private final int position;
+    private final String name;
+    private final IntConstrain constrain;
+    private final IntTransform transform;
+
+    /**
+     * Ctor.
+     *
+     * @param position  position on file, from left to right starting from 0.
+     * @param name      column name.
+     * @param constrain value constrain.
+     * @param transform value transform.
+     */
+    public IntColumn(
+            int position, String name, IntConstrain constrain,
+            IntTransform transform
+    ) {
+        this.position = position;
+        this.name = name;
+        this.constrain = constrain;
+        this.transform = transform;
+    }
+
+    @Override
+    public Integer parse(String value) {
+        return this.transform.asInt(value);
+    }
+
+    @Override
+    public int position() {
+        return this.position;
+    }
+
+    @Override
+    public String name() {
+        return this.name;
+    }
+
+    @Override
+    public boolean isValid(String value) {
+        return this.constrain.isValid(this.transform.asInt(value));
+    }
+
+    @Override
+    public Value value(String raw) {
+        return new IntSlot(this.transform.asInt(raw));
+    }
+
+    @Override
+    public boolean isValid(Field field) {
+        return this.constrain.isValid(this.transform.asInt(field));
+    }
+
+    @Override
+    public Value value(Field field) {
+        return new IntSlot(this.transform.asInt(field));
+    }
+
+    @Override
+    public Value nullValue() {
+        return new IntValue(null);
+    }
+
+    @Override
+    public Value checked(String raw) {
+        return this.checkedValue(this.transform.asInt(raw));
+    }
+
+    @Override
+    public Value checked(Field field) {
+        return this.checkedValue(this.transform.asInt(field));
+    }
+
+    @Override
+    public boolean fill(String raw, LineBuffer buffer, int index) {
+        return this.fillValue(this.transform.asInt(raw), buffer, index);
+    }
+
+    @Override
+    public boolean fill(Field field, LineBuffer buffer, int index) {
+        final int value = this.transform.readInt(field);
+        return !field.isInvalid() && this.fillValue(value, buffer, index);
+    }
+
+    @Override
+    public Binder binder(PreparedStatement psmt, int index) {
+        return new IntBinder(psmt, index, this.constrain, this.transform);
+    }
+
+    /**
+     * Check a parsed value and set it on a buffer.
+     *
+     * @param parsed parsed value.
+     * @param buffer buffer to fill.
+     * @param index  index of the value on the buffer.
+     * @return false if the value is not valid.
+     */
+    private boolean fillValue(int parsed, LineBuffer buffer, int index) {
+        if (!this.constrain.isValid(parsed)) {
+            return false;
+        }
+        buffer.setInt(index, parsed);
+        return true;
+    }
+
+    /**
+     * Check a parsed value and build its {@link Value}.
+     *
+     * @param parsed parsed value.
+     * @return a {@link Value} or {@link Column#REJECTED}.
+     */
+    private Value checkedValue(int parsed) {
+        return this.constrain.isValid(parsed)
+                ? new IntSlot(parsed)
+                : Column.REJECTED;
+    }
+}
@@ -24,11 +24,20 @@
 
 package com.elbraulio.ezload.column;
 
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.bind.Binder;
+import com.elbraulio.ezload.bind.NullableBinder;
+import com.elbraulio.ezload.field.EncodedText;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.line.LineBuffer;
 import com.elbraulio.ezload.value.Value;
 
+import java.sql.PreparedStatement;
+
  /**
   * Allows a given column to return <code>null</code> values. 
-  * This overrides parse and isValid in order to support null values.
+  * This overrides parse, isValid and the values in order to support null
+  * values.
   *
   * @author Braulio Lopez (brauliop.3@gmail.com)
   * @since 0.4.0
@@ -37,6 +46,7 @@ public class Nullable<T> implements Column<T> {
 
     private final String expression;
     private final Column<T> decorated;
+    private final EncodedText encoded;
 
     /**
      * Ctor.
@@ -47,6 +57,7 @@ public class Nullable<T> implements Column<T> {
     public Nullable(String expression, Column<T> decorated) {
         this.expression = expression;
         this.decorated = decorated;
+        this.encoded = new EncodedText(expression);
     }
 
     @Override
@@ -75,6 +86,67 @@ public class Nullable<T> implements Column<T> {
 
     @Override
     public Value value(String raw) {
-        return this.decorated.value(raw);
+        return this.expression.equals(raw)
+            ? this.decorated.nullValue()
+            : this.decorated.value(raw);
+    }
+
+    @Override
+    public boolean isValid(Field field) {
+        return field.matches(this.encoded.bytes(field.charset()))
+            ? true
+            : this.decorated.isValid(field);
+    }
+
+    @Override
+    public Value value(Field field) {
+        return field.matches(this.encoded.bytes(field.charset()))
+            ? this.decorated.nullValue()
+            : this.decorated.value(field);
+    }
+
+    @Override
+    public Value nullValue() {
+        return this.decorated.nullValue();
+    }
+
+    @Override
+    public Value checked(String raw) {
+        return this.expression.equals(raw)
+            ? this.decorated.nullValue()
+            : this.decorated.checked(raw);
+    }
+
+    @Override
+    public Value checked(Field field) {
+        return field.matches(this.encoded.bytes(field.charset()))
+            ? this.decorated.nullValue()
+            : this.decorated.checked(field);
+    }
+
+    @Override
+    public boolean fill(String raw, LineBuffer buffer, int index) {
+        if (this.expression.equals(raw)) {
+            buffer.setValue(index, this.decorated.nullValue());
+            return true;
+        }
+        return this.decorated.fill(raw, buffer, index);
+    }
+
+    @Override
+    public boolean fill(Field field, LineBuffer buffer, int index) {
+        if (field.matches(this.encoded.bytes(field.charset()))) {
+            buffer.setValue(index, this.decorated.nullValue());
+            return true;
+        }
+        return this.decorated.fill(field, buffer, index);
+    }
+
+    @Override
+    public Binder binder(PreparedStatement psmt, int index) {
+        return new NullableBinder(
+            this.expression, this.decorated.binder(psmt, index),
+            this.decorated, new AddPreparedStatement(psmt, index)
+        );
     }
  }
\ No newline at end of file
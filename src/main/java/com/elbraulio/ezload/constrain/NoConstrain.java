@@ -30,9 +30,25 @@ package com.elbraulio.ezload.constrain;
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
  */
-public final class NoConstrain<T> implements Constrain<T> {
+public final class NoConstrain<T> implements Constrain<T>, IntConstrain,
+        LongConstrain, DoubleConstrain {
     @Override
     public boolean isValid(T value) {
         return true;
     }
+
+    @Override
+    public boolean isValid(int value) {
+        return true;
+    }
+
+    @Override
+    public boolean isValid(long value) {
+        return true;
+    }
+
+    @Override
+    public boolean isValid(double value) {
+        return true;
+    }
 }
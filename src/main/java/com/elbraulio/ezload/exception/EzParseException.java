@@ -59,6 +59,22 @@ public final class EzParseException extends Exception {
         this.errors = errors;
     }
 
+    /**
+     * Ctor.
+     *
+     * @param msg                exception message.
+     * @param errors             list of errors.
+     * @param writableStackTrace false to skip filling the stack trace, for
+     *                           errors that are expected on dirty sources.
+     * @since 0.4.0
+     */
+    public EzParseException(
+            String msg, List<String> errors, boolean writableStackTrace
+    ) {
+        super(msg, null, false, writableStackTrace);
+        this.errors = errors;
+    }
+
     /**
      * Return list of errors.
      *
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.field;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A text encoded once per charset, so it can be compared with the bytes of
+ * each record without encoding it again. UTF-8 is encoded when it is built
+ * and the last other charset is kept, which is enough because a load reads
+ * every record with the same charset.
+ * <p>
+ * It is thread safe, threads that use different charsets just encode the
+ * text again.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class EncodedText {
+    private final String text;
+    private final byte[] utf8;
+    private volatile Encoded last;
+
+    /**
+     * Ctor.
+     *
+     * @param text text to encode.
+     */
+    public EncodedText(String text) {
+        this.text = text;
+        this.utf8 = text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Text encoded with a charset.
+     *
+     * @param charset charset to encode the text.
+     * @return encoded text, it must not be modified.
+     */
+    public byte[] bytes(Charset charset) {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            return this.utf8;
+        }
+        Encoded encoded = this.last;
+        if (encoded == null || !encoded.charset.equals(charset)) {
+            encoded = new Encoded(charset, this.text.getBytes(charset));
+            this.last = encoded;
+        }
+        return encoded.bytes;
+    }
+
+    /**
+     * Bytes of the text on a charset.
+     */
+    private static final class Encoded {
+        private final Charset charset;
+        private final byte[] bytes;
+
+        /**
+         * Ctor.
+         *
+         * @param charset charset of the bytes.
+         * @param bytes   encoded text.
+         */
+        Encoded(Charset charset, byte[] bytes) {
+            this.charset = charset;
+            this.bytes = bytes;
+        }
+    }
+}
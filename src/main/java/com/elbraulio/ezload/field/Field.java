@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.field;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Offset and length view of a field inside a record. It does not copy the
+ * record bytes, so numeric values can be read without creating a String.
+ * The same instance is moved from field to field with
+ * {@link #window(ByteBuffer, int, int)}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class Field {
+    private final Charset charset;
+    private ByteBuffer buffer;
+    private int offset;
+    private int length;
+    private byte[] scratch;
+    private boolean invalid;
+
+    /**
+     * Ctor.
+     *
+     * @param charset charset to decode the field as text.
+     */
+    public Field(Charset charset) {
+        this.charset = charset;
+        this.scratch = new byte[32];
+    }
+
+    /**
+     * Move this view to another field.
+     *
+     * @param buffer record bytes.
+     * @param offset absolute index of the first byte on <code>buffer</code>.
+     * @param length number of bytes.
+     * @return this field.
+     */
+    public Field window(ByteBuffer buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        this.invalid = false;
+        return this;
+    }
+
+    /**
+     * Mark the field as a value that its transform can not read, so
+     * transforms can report it without creating an exception. The mark is
+     * cleared when the view moves to another field.
+     */
+    public void invalid() {
+        this.invalid = true;
+    }
+
+    /**
+     * Checks if a transform marked the field with {@link #invalid()}.
+     *
+     * @return true if the field can not be read.
+     */
+    public boolean isInvalid() {
+        return this.invalid;
+    }
+
+    /**
+     * Number of bytes of the field.
+     *
+     * @return field length.
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Byte of the field.
+     *
+     * @param index from 0 to {@link #length()} - 1.
+     * @return byte at <code>index</code>.
+     */
+    public byte byteAt(int index) {
+        return this.buffer.get(this.offset + index);
+    }
+
+    /**
+     * Checks if the field has the same bytes than the given ones.
+     *
+     * @param bytes bytes to compare.
+     * @return true if both are equals.
+     */
+    public boolean matches(byte[] bytes) {
+        if (bytes.length != this.length) {
+            return false;
+        }
+        for (int i = 0; i < this.length; i++) {
+            if (bytes[i] != this.buffer.get(this.offset + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decode the field.
+     *
+     * @return field as text.
+     */
+    public String text() {
+        if (this.scratch.length < this.length) {
+            this.scratch = new byte[
+                    Math.max(this.length, this.scratch.length * 2)
+            ];
+        }
+        for (int i = 0; i < this.length; i++) {
+            this.scratch[i] = this.buffer.get(this.offset + i);
+        }
+        return new String(this.scratch, 0, this.length, this.charset);
+    }
+
+    /**
+     * Charset of the field.
+     *
+     * @return charset.
+     */
+    public Charset charset() {
+        return this.charset;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.line;
+
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.value.DoubleSlot;
+import com.elbraulio.ezload.value.IntSlot;
+import com.elbraulio.ezload.value.LongSlot;
+import com.elbraulio.ezload.value.Value;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mutable line that a parser fills in place, so the same buffer can hold
+ * every record of a load. Primitive values are kept on primitive slots and
+ * other ones as {@link Value}; nothing is allocated per record once the
+ * buffer reached the size of the records.
+ * <p>
+ * A LineBuffer is not thread safe, each thread needs its own one.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LineBuffer implements LineTarget {
+    private static final byte VALUE = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+    private byte[] kinds;
+    private long[] longs;
+    private double[] doubles;
+    private Value[] values;
+    private final LineScratch scratch;
+    private int size;
+
+    /**
+     * Ctor.
+     */
+    public LineBuffer() {
+        this(8);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param columns expected number of values.
+     */
+    public LineBuffer(int columns) {
+        this.kinds = new byte[columns];
+        this.longs = new long[columns];
+        this.doubles = new double[columns];
+        this.values = new Value[columns];
+        this.scratch = new LineScratch(columns + 2);
+    }
+
+    @Override
+    public void reset(int columns) {
+        if (this.kinds.length < columns) {
+            this.kinds = Arrays.copyOf(this.kinds, columns);
+            this.longs = Arrays.copyOf(this.longs, columns);
+            this.doubles = Arrays.copyOf(this.doubles, columns);
+            this.values = Arrays.copyOf(this.values, columns);
+        }
+        this.size = columns;
+    }
+
+    /**
+     * Number of values of the current line.
+     *
+     * @return size.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Set a primitive int.
+     *
+     * @param index value index, from 0.
+     * @param value value.
+     */
+    public void setInt(int index, int value) {
+        this.kinds[index] = LineBuffer.INT;
+        this.longs[index] = value;
+    }
+
+    /**
+     * Set a primitive long.
+     *
+     * @param index value index, from 0.
+     * @param value value.
+     */
+    public void setLong(int index, long value) {
+        this.kinds[index] = LineBuffer.LONG;
+        this.longs[index] = value;
+    }
+
+    /**
+     * Set a primitive double.
+     *
+     * @param index value index, from 0.
+     * @param value value.
+     */
+    public void setDouble(int index, double value) {
+        this.kinds[index] = LineBuffer.DOUBLE;
+        this.doubles[index] = value;
+    }
+
+    /**
+     * Set any other value.
+     *
+     * @param index value index, from 0.
+     * @param value value.
+     */
+    public void setValue(int index, Value value) {
+        this.kinds[index] = LineBuffer.VALUE;
+        this.values[index] = value;
+    }
+
+    /**
+     * Execute each value with the action of its index, primitive values are
+     * handed as primitives.
+     *
+     * @param actions one action per value.
+     * @throws EzException when an action fails.
+     */
+    public void accept(Action[] actions) throws EzException {
+        for (int i = 0; i < this.size; i++) {
+            switch (this.kinds[i]) {
+                case LineBuffer.INT:
+                    actions[i].execute((int) this.longs[i]);
+                    break;
+                case LineBuffer.LONG:
+                    actions[i].execute(this.longs[i]);
+                    break;
+                case LineBuffer.DOUBLE:
+                    actions[i].execute(this.doubles[i]);
+                    break;
+                default:
+                    this.values[i].accept(actions[i]);
+            }
+        }
+    }
+
+    @Override
+    public boolean fill(Column column, int index, String raw) {
+        return column.fill(raw, this, index);
+    }
+
+    @Override
+    public boolean fill(Column column, int index, Field field) {
+        return column.fill(field, this, index);
+    }
+
+    @Override
+    public void load(Line line) {
+        final List<Value> loaded = line.values();
+        this.reset(loaded.size());
+        for (int i = 0; i < loaded.size(); i++) {
+            this.setValue(i, loaded.get(i));
+        }
+    }
+
+    /**
+     * Copy the current values to a new line.
+     *
+     * @return line.
+     */
+    public Line line() {
+        final List<Value> copy = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            switch (this.kinds[i]) {
+                case LineBuffer.INT:
+                    copy.add(new IntSlot((int) this.longs[i]));
+                    break;
+                case LineBuffer.LONG:
+                    copy.add(new LongSlot(this.longs[i]));
+                    break;
+                case LineBuffer.DOUBLE:
+                    copy.add(new DoubleSlot(this.doubles[i]));
+                    break;
+                default:
+                    copy.add(this.values[i]);
+            }
+        }
+        return new DefaultLine(copy);
+    }
+
+    @Override
+    public LineScratch scratch() {
+        return this.scratch;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.line;
+
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.parse.ParseErrors;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Memory that parsers reuse between lines of the same {@link LineTarget}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LineScratch {
+    private int[] starts;
+    private int[] ends;
+    private Field field;
+    private ParseErrors errors;
+
+    /**
+     * Ctor.
+     *
+     * @param fields expected number of fields.
+     */
+    public LineScratch(int fields) {
+        this.starts = new int[fields];
+        this.ends = new int[fields];
+    }
+
+    /**
+     * Keep the bounds of a field, arrays grow when they are full.
+     *
+     * @param index field index, from 0.
+     * @param start first byte of the field.
+     * @param end   byte after the last one of the field.
+     */
+    public void bounds(int index, int start, int end) {
+        if (index >= this.starts.length) {
+            final int length = Math.max(index + 1, this.starts.length * 2);
+            this.starts = Arrays.copyOf(this.starts, length);
+            this.ends = Arrays.copyOf(this.ends, length);
+        }
+        this.starts[index] = start;
+        this.ends[index] = end;
+    }
+
+    /**
+     * First byte of a field.
+     *
+     * @param index field index.
+     * @return first byte.
+     */
+    public int start(int index) {
+        return this.starts[index];
+    }
+
+    /**
+     * Byte after the last one of a field.
+     *
+     * @param index field index.
+     * @return end of the field.
+     */
+    public int end(int index) {
+        return this.ends[index];
+    }
+
+    /**
+     * Scratch field for parsers.
+     *
+     * @param charset field charset.
+     * @return field, the same one while the charset does not change.
+     */
+    public Field field(Charset charset) {
+        if (this.field == null || !this.field.charset().equals(charset)) {
+            this.field = new Field(charset);
+        }
+        return this.field;
+    }
+
+    /**
+     * Errors for parsers that throw them instead of returning them.
+     *
+     * @return errors, the same ones for every line.
+     */
+    public ParseErrors errors() {
+        if (this.errors == null) {
+            this.errors = new ParseErrors();
+        }
+        return this.errors;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.line;
+
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.field.Field;
+
+/**
+ * Where a parser puts the raw values of a line, so the same parsing works to
+ * fill a {@link LineBuffer} or to bind values straight to a statement.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface LineTarget {
+
+    /**
+     * Start a new line.
+     *
+     * @param columns number of values of the line.
+     */
+    void reset(int columns);
+
+    /**
+     * Convert, check and put a raw value.
+     *
+     * @param column column of the value.
+     * @param index  index of the value on the line, from 0.
+     * @param raw    raw value.
+     * @return false if the column does not accept the value.
+     * @throws EzException when the value can not be put.
+     */
+    boolean fill(Column column, int index, String raw) throws EzException;
+
+    /**
+     * Convert, check and put a raw field.
+     *
+     * @param column column of the value.
+     * @param index  index of the value on the line, from 0.
+     * @param field  raw field.
+     * @return false if the column does not accept the value.
+     * @throws EzException when the value can not be put.
+     */
+    boolean fill(Column column, int index, Field field) throws EzException;
+
+    /**
+     * Put every value of an already parsed line.
+     *
+     * @param line parsed line.
+     * @throws EzException when a value can not be put.
+     */
+    void load(Line line) throws EzException;
+
+    /**
+     * Memory that parsers reuse for every line put on this target.
+     *
+     * @return scratch.
+     */
+    LineScratch scratch();
+}
@@ -0,0 +1,359 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.logger;
+
+import java.io.Closeable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Decorates an {@link EzLogger} so callers never wait on its I/O. Messages
+ * are put on a preallocated ring buffer and a background thread hands them
+ * to the origin logger, in order.
+ * <p>
+ * The buffer is lock-free and accepts many producers. When it is full the
+ * message is dropped and counted or the caller waits, see {@link Overflow}.
+ * Info messages can be sampled: only one of every N reaches the buffer,
+ * warnings and errors always do. Pattern messages are formatted by the
+ * background thread, so their arguments must not change after the call.
+ * <p>
+ * The background thread sleeps while the buffer is empty and is woken up by
+ * the next message. {@link #close()} waits for the callers that are putting
+ * a message, writes the pending messages and stops the thread, later
+ * messages go straight to the origin logger.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class AsyncLog implements EzLogger, Closeable {
+    private static final int CAPACITY = 1024;
+    private static final byte INFO = 0;
+    private static final byte WARNING = 1;
+    private static final byte ERROR = 2;
+    private static final Object PLAIN = new Object();
+    private final EzLogger origin;
+    private final Overflow overflow;
+    private final int sample;
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final byte[] levels;
+    private final String[] texts;
+    private final Object[] args;
+    private final String[] classes;
+    private final AtomicLong tail;
+    private final AtomicLong sampled;
+    private final LongAdder dropped;
+    private final AtomicInteger producers;
+    private final AtomicBoolean idle;
+    private final Thread drainer;
+    private volatile boolean closed;
+    private long head;
+
+    /**
+     * Ctor. It drops messages when 1024 are pending and does not sample.
+     *
+     * @param origin logger that writes the messages.
+     */
+    public AsyncLog(EzLogger origin) {
+        this(origin, AsyncLog.CAPACITY, Overflow.DROP, 1);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param origin   logger that writes the messages.
+     * @param capacity max pending messages, rounded up to a power of two.
+     * @param overflow what to do when capacity is reached.
+     * @param sample   one of every sample info messages is logged.
+     */
+    public AsyncLog(
+            EzLogger origin, int capacity, Overflow overflow, int sample
+    ) {
+        if (capacity < 1 || sample < 1) {
+            throw new IllegalArgumentException(
+                    "capacity and sample must be positive"
+            );
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.origin = origin;
+        this.overflow = overflow;
+        this.sample = sample;
+        this.mask = Math.max(size, 1) - 1;
+        this.sequences = new AtomicLongArray(this.mask + 1);
+        for (int i = 0; i <= this.mask; i++) {
+            this.sequences.set(i, i);
+        }
+        this.levels = new byte[this.mask + 1];
+        this.texts = new String[this.mask + 1];
+        this.args = new Object[this.mask + 1];
+        this.classes = new String[this.mask + 1];
+        this.tail = new AtomicLong();
+        this.sampled = new AtomicLong();
+        this.dropped = new LongAdder();
+        this.producers = new AtomicInteger();
+        this.idle = new AtomicBoolean();
+        this.drainer = new Thread(this::drain, "ezload-async-log");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    @Override
+    public void info(String msg, String clazz) {
+        if (this.isInfoEnabled() && this.sampled()) {
+            this.put(AsyncLog.INFO, msg, AsyncLog.PLAIN, clazz);
+        }
+    }
+
+    @Override
+    public void warning(String msg, String clazz) {
+        if (this.isWarningEnabled()) {
+            this.put(AsyncLog.WARNING, msg, AsyncLog.PLAIN, clazz);
+        }
+    }
+
+    @Override
+    public void error(String msg, String clazz) {
+        if (this.isErrorEnabled()) {
+            this.put(AsyncLog.ERROR, msg, AsyncLog.PLAIN, clazz);
+        }
+    }
+
+    @Override
+    public void info(Supplier<String> msg, String clazz) {
+        if (this.isInfoEnabled() && this.sampled()) {
+            this.put(AsyncLog.INFO, msg.get(), AsyncLog.PLAIN, clazz);
+        }
+    }
+
+    @Override
+    public void info(String pattern, Object arg, String clazz) {
+        if (this.isInfoEnabled() && this.sampled()) {
+            this.put(AsyncLog.INFO, pattern, arg, clazz);
+        }
+    }
+
+    @Override
+    public void warning(String pattern, Object arg, String clazz) {
+        if (this.isWarningEnabled()) {
+            this.put(AsyncLog.WARNING, pattern, arg, clazz);
+        }
+    }
+
+    @Override
+    public void error(String pattern, Object arg, String clazz) {
+        if (this.isErrorEnabled()) {
+            this.put(AsyncLog.ERROR, pattern, arg, clazz);
+        }
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return this.origin.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarningEnabled() {
+        return this.origin.isWarningEnabled();
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return this.origin.isErrorEnabled();
+    }
+
+    /**
+     * Messages discarded because the buffer was full or the origin logger
+     * failed to write them.
+     *
+     * @return dropped messages.
+     */
+    public long dropped() {
+        return this.dropped.sum();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        LockSupport.unpark(this.drainer);
+        boolean interrupted = false;
+        while (this.drainer.isAlive()) {
+            try {
+                this.drainer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Check if the current info message is one of the sample.
+     *
+     * @return true if the message must be logged.
+     */
+    private boolean sampled() {
+        return this.sample == 1 ||
+                this.sampled.getAndIncrement() % this.sample == 0;
+    }
+
+    /**
+     * Put a message on the buffer, or write it right away once closed. The
+     * caller is counted as a producer while it checks the buffer, so the
+     * background thread does not stop before its message is published.
+     *
+     * @param level level of the message.
+     * @param text  message or pattern.
+     * @param arg   pattern argument, {@link #PLAIN} for plain messages.
+     * @param clazz class name to identify the message.
+     */
+    private void put(byte level, String text, Object arg, String clazz) {
+        this.producers.incrementAndGet();
+        try {
+            while (!this.closed) {
+                if (this.offer(level, text, arg, clazz)) {
+                    this.wake();
+                    return;
+                }
+                if (this.overflow == Overflow.DROP) {
+                    this.dropped.increment();
+                    return;
+                }
+                Thread.yield();
+            }
+        } finally {
+            this.producers.decrementAndGet();
+        }
+        this.write(level, text, arg, clazz);
+    }
+
+    /**
+     * Wake the background thread up if it sleeps.
+     */
+    private void wake() {
+        if (this.idle.get() && this.idle.compareAndSet(true, false)) {
+            LockSupport.unpark(this.drainer);
+        }
+    }
+
+    /**
+     * Claim the next free slot and fill it.
+     *
+     * @param level level of the message.
+     * @param text  message or pattern.
+     * @param arg   pattern argument.
+     * @param clazz class name to identify the message.
+     * @return false if the buffer is full.
+     */
+    private boolean offer(byte level, String text, Object arg, String clazz) {
+        while (true) {
+            final long position = this.tail.get();
+            final int index = (int) position & this.mask;
+            final long distance = this.sequences.get(index) - position;
+            if (distance < 0L) {
+                return false;
+            }
+            if (distance == 0L &&
+                    this.tail.compareAndSet(position, position + 1L)) {
+                this.levels[index] = level;
+                this.texts[index] = text;
+                this.args[index] = arg;
+                this.classes[index] = clazz;
+                // publishes the slot to the drainer
+                this.sequences.lazySet(index, position + 1L);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Body of the background thread: write messages until the logger is
+     * closed, no caller is putting a message and the buffer is empty. It
+     * sleeps while the buffer is empty: it says so before it checks the
+     * tail, which producers move before they check whether to wake it up.
+     */
+    private void drain() {
+        while (true) {
+            final int index = (int) this.head & this.mask;
+            if (this.sequences.get(index) == this.head + 1L) {
+                final byte level = this.levels[index];
+                final String text = this.texts[index];
+                final Object arg = this.args[index];
+                final String clazz = this.classes[index];
+                this.texts[index] = null;
+                this.args[index] = null;
+                this.classes[index] = null;
+                // the slot is free before the slow write
+                this.sequences.lazySet(index, this.head + this.mask + 1L);
+                this.head++;
+                try {
+                    this.write(level, text, arg, clazz);
+                } catch (RuntimeException e) {
+                    this.dropped.increment();
+                }
+            } else if (this.closed) {
+                if (this.producers.get() == 0 &&
+                        this.tail.get() == this.head) {
+                    return;
+                }
+                Thread.yield();
+            } else {
+                this.idle.set(true);
+                if (this.tail.get() == this.head && !this.closed) {
+                    LockSupport.park(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * Write a message on the origin logger.
+     *
+     * @param level level of the message.
+     * @param text  message or pattern.
+     * @param arg   pattern argument, {@link #PLAIN} for plain messages.
+     * @param clazz class name to identify the message.
+     */
+    private void write(byte level, String text, Object arg, String clazz) {
+        final String msg;
+        if (arg == AsyncLog.PLAIN) {
+            msg = text;
+        } else {
+            msg = EzLogger.format(text, arg);
+        }
+        if (level == AsyncLog.INFO) {
+            this.origin.info(msg, clazz);
+        } else if (level == AsyncLog.WARNING) {
+            this.origin.warning(msg, clazz);
+        } else {
+            this.origin.error(msg, clazz);
+        }
+    }
+}
@@ -24,9 +24,16 @@
 
 package com.elbraulio.ezload.logger;
 
+import java.util.function.Supplier;
+
 /**
  * Represent the logger that ezload will use. Then, if the user wants to log
  * what ezload logs, the user must implement this EzLogger with any log tool.
+ * <p>
+ * Messages of hot paths are built only when their level is enabled: they
+ * are checked with {@link #isInfoEnabled()} or passed as a
+ * {@link Supplier} or as a pattern with an argument, where "{}" is replaced
+ * by the argument.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
@@ -55,4 +62,131 @@ public interface EzLogger {
      * @param clazz class name to identify the message.
      */
     void error(String msg, String clazz);
+
+    /**
+     * Check if info messages are printed. By default every message is.
+     *
+     * @return true if info messages are printed.
+     * @since 0.4.0
+     */
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /**
+     * Check if warning messages are printed. By default every message is.
+     *
+     * @return true if warning messages are printed.
+     * @since 0.4.0
+     */
+    default boolean isWarningEnabled() {
+        return true;
+    }
+
+    /**
+     * Check if error messages are printed. By default every message is.
+     *
+     * @return true if error messages are printed.
+     * @since 0.4.0
+     */
+    default boolean isErrorEnabled() {
+        return true;
+    }
+
+    /**
+     * Print an info message built only if info messages are enabled.
+     *
+     * @param msg   message to print.
+     * @param clazz class name to identify the message.
+     * @since 0.4.0
+     */
+    default void info(Supplier<String> msg, String clazz) {
+        if (this.isInfoEnabled()) {
+            this.info(msg.get(), clazz);
+        }
+    }
+
+    /**
+     * Print a warning message built only if warning messages are enabled.
+     *
+     * @param msg   message to print.
+     * @param clazz class name to identify the message.
+     * @since 0.4.0
+     */
+    default void warning(Supplier<String> msg, String clazz) {
+        if (this.isWarningEnabled()) {
+            this.warning(msg.get(), clazz);
+        }
+    }
+
+    /**
+     * Print an error message built only if error messages are enabled.
+     *
+     * @param msg   message to print.
+     * @param clazz class name to identify the message.
+     * @since 0.4.0
+     */
+    default void error(Supplier<String> msg, String clazz) {
+        if (this.isErrorEnabled()) {
+            this.error(msg.get(), clazz);
+        }
+    }
+
+    /**
+     * Print an info message built only if info messages are enabled.
+     *
+     * @param pattern message with a "{}" where the argument goes.
+     * @param arg     argument of the message.
+     * @param clazz   class name to identify the message.
+     * @since 0.4.0
+     */
+    default void info(String pattern, Object arg, String clazz) {
+        if (this.isInfoEnabled()) {
+            this.info(EzLogger.format(pattern, arg), clazz);
+        }
+    }
+
+    /**
+     * Print a warning message built only if warning messages are enabled.
+     *
+     * @param pattern message with a "{}" where the argument goes.
+     * @param arg     argument of the message.
+     * @param clazz   class name to identify the message.
+     * @since 0.4.0
+     */
+    default void warning(String pattern, Object arg, String clazz) {
+        if (this.isWarningEnabled()) {
+            this.warning(EzLogger.format(pattern, arg), clazz);
+        }
+    }
+
+    /**
+     * Print an error message built only if error messages are enabled.
+     *
+     * @param pattern message with a "{}" where the argument goes.
+     * @param arg     argument of the message.
+     * @param clazz   class name to identify the message.
+     * @since 0.4.0
+     */
+    default void error(String pattern, Object arg, String clazz) {
+        if (this.isErrorEnabled()) {
+            this.error(EzLogger.format(pattern, arg), clazz);
+        }
+    }
+
+    /**
+     * Replace the first "{}" of a pattern by an argument.
+     *
+     * @param pattern message with a "{}" where the argument goes.
+     * @param arg     argument of the message.
+     * @return message.
+     * @since 0.4.0
+     */
+    static String format(String pattern, Object arg) {
+        final int index = pattern.indexOf("{}");
+        if (index < 0) {
+            return pattern;
+        }
+        return pattern.substring(0, index) + arg + pattern.substring(index + 2);
+    }
 }
@@ -25,7 +25,8 @@
 package com.elbraulio.ezload.logger;
 
 /**
- * Empty implementation for production release.
+ * Empty implementation for production release. Every level is disabled, so
+ * lazy messages are never built.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
@@ -45,4 +46,19 @@ public final class NoLog implements EzLogger {
     public void error(String msg, String clazz) {
         // no logs
     }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isWarningEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return false;
+    }
 }
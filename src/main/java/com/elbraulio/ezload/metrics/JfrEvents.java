@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+/**
+ * Emits the events of a load to Java Flight Recorder, so loader stages can
+ * be matched with data base stalls or GC pauses on one recording. The JFR
+ * API is not needed to build or run ezload: the listener that links to it
+ * is compiled only by the <code>jfr</code> profile, on JDKs that have the
+ * API, and it is looked up at runtime. On builds or JVMs without it, or
+ * when no recording wants ezload events, loads get
+ * {@link LoadListener#NONE} and nothing is timed.
+ * <p>
+ * Events are "ezload.Load" (table, lines, rows and rejected lines, with the
+ * duration of the load), "ezload.Chunk" (rows of a batch and the time
+ * parsing them), "ezload.Batch" (rows and duration of each executed batch)
+ * and "ezload.Reject" (table and line of each rejected line).
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class JfrEvents {
+    private static final String LISTENER =
+            "com.elbraulio.ezload.metrics.JfrListener";
+    private static final Class<?> CLASS = JfrEvents.lookup();
+
+    /**
+     * Check if the JVM has the JFR API and ezload was built with its
+     * listener.
+     *
+     * @return true if events can be emitted.
+     */
+    public static boolean available() {
+        return JfrEvents.CLASS != null;
+    }
+
+    /**
+     * Listener that emits the events of a load, if a recording wants them.
+     *
+     * @param table table name of the load.
+     * @return JFR listener or {@link LoadListener#NONE}.
+     */
+    public static LoadListener listener(String table) {
+        if (JfrEvents.CLASS == null) {
+            return LoadListener.NONE;
+        }
+        try {
+            if ((Boolean) JfrEvents.CLASS.getDeclaredMethod("recording")
+                    .invoke(null)) {
+                return (LoadListener) JfrEvents.CLASS
+                        .getDeclaredConstructor(String.class)
+                        .newInstance(table);
+            }
+            return LoadListener.NONE;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "JFR listener error: " + e.toString(), e
+            );
+        }
+    }
+
+    /**
+     * Look for the JFR API and for the listener, without loading any event
+     * class.
+     *
+     * @return listener class, null if it can not be used.
+     */
+    private static Class<?> lookup() {
+        final ClassLoader loader = JfrEvents.class.getClassLoader();
+        try {
+            Class.forName("jdk.jfr.Event", false, loader);
+            return Class.forName(JfrEvents.LISTENER, false, loader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets that grow exponentially: each power of two is
+ * split in four buckets, so recording is a few bit operations and an
+ * increment, and percentiles are known within 25%.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LatencyHistogram {
+    private static final int BUCKETS = 256;
+    private final AtomicLongArray counts;
+
+    /**
+     * Ctor.
+     */
+    public LatencyHistogram() {
+        this(new AtomicLongArray(LatencyHistogram.BUCKETS));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param counts count of each bucket.
+     */
+    private LatencyHistogram(AtomicLongArray counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Record a latency.
+     *
+     * @param nanos latency, negative values count as 0.
+     */
+    public void record(long nanos) {
+        this.counts.incrementAndGet(LatencyHistogram.index(nanos));
+    }
+
+    /**
+     * Recorded latencies.
+     *
+     * @return count.
+     */
+    public long count() {
+        long count = 0L;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            count += this.counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Latency under which a fraction of the recorded ones are.
+     *
+     * @param fraction fraction between 0 and 1, like 0.99.
+     * @return highest value of the bucket that holds the percentile, 0 if
+     * nothing was recorded.
+     */
+    public long percentile(double fraction) {
+        final long rank = Math.max(
+                1L, (long) Math.ceil(fraction * this.count())
+        );
+        long seen = 0L;
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            seen += this.counts.get(i);
+            if (seen >= rank) {
+                return LatencyHistogram.upper(i);
+            }
+        }
+        return 0L;
+    }
+
+    /**
+     * Copy of the current counts, later records do not change it.
+     *
+     * @return histogram copy.
+     */
+    public LatencyHistogram copy() {
+        final AtomicLongArray copy = new AtomicLongArray(
+                LatencyHistogram.BUCKETS
+        );
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            copy.set(i, this.counts.get(i));
+        }
+        return new LatencyHistogram(copy);
+    }
+
+    /**
+     * Bucket of a latency. Values under 4 have their own bucket, the others
+     * are indexed by their power of two and the two bits that follow it.
+     *
+     * @param nanos latency.
+     * @return bucket index.
+     */
+    private static int index(long nanos) {
+        if (nanos < 4L) {
+            return (int) Math.max(nanos, 0L);
+        }
+        final int exp = 63 - Long.numberOfLeadingZeros(nanos);
+        return ((exp - 1) << 2) + (int) ((nanos >>> (exp - 2)) & 3L);
+    }
+
+    /**
+     * Highest latency of a bucket.
+     *
+     * @param index bucket index.
+     * @return latency.
+     */
+    private static long upper(int index) {
+        if (index < 4) {
+            return index;
+        }
+        final int exp = (index >> 2) + 1;
+        final long lower = (4L + (index & 3)) << (exp - 2);
+        return lower + (1L << (exp - 2)) - 1L;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+/**
+ * Several listeners of the same load. Lines are timed if one of them wants
+ * it, and the load is cancelled if one of them says so.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class Listeners implements LoadListener {
+    private final LoadListener[] listeners;
+    private final boolean timed;
+
+    /**
+     * Ctor.
+     *
+     * @param listeners listeners of the load.
+     */
+    public Listeners(LoadListener... listeners) {
+        this.listeners = listeners;
+        boolean any = false;
+        for (LoadListener listener : listeners) {
+            any = any || listener.timed();
+        }
+        this.timed = any;
+    }
+
+    @Override
+    public boolean timed() {
+        return this.timed;
+    }
+
+    @Override
+    public void started() {
+        for (LoadListener listener : this.listeners) {
+            listener.started();
+        }
+    }
+
+    @Override
+    public void read(long bytes, long nanos) {
+        for (LoadListener listener : this.listeners) {
+            listener.read(bytes, nanos);
+        }
+    }
+
+    @Override
+    public void parsed(long nanos) {
+        for (LoadListener listener : this.listeners) {
+            listener.parsed(nanos);
+        }
+    }
+
+    @Override
+    public void rejected() {
+        for (LoadListener listener : this.listeners) {
+            listener.rejected();
+        }
+    }
+
+    @Override
+    public void added(long nanos) {
+        for (LoadListener listener : this.listeners) {
+            listener.added(nanos);
+        }
+    }
+
+    @Override
+    public void executed(int rows, long nanos) {
+        for (LoadListener listener : this.listeners) {
+            listener.executed(rows, nanos);
+        }
+    }
+
+    @Override
+    public void committed(long rows) {
+        for (LoadListener listener : this.listeners) {
+            listener.committed(rows);
+        }
+    }
+
+    @Override
+    public boolean cancelled() {
+        for (LoadListener listener : this.listeners) {
+            if (listener.cancelled()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void finished(boolean completed) {
+        for (LoadListener listener : this.listeners) {
+            listener.finished(completed);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+/**
+ * Receives the events of a load, see
+ * {@link com.elbraulio.ezload.sql.InsertFromParser}. Every method is called
+ * from the loading thread, so implementations must be cheap and thread safe
+ * if they are shared by several loads. By default events are ignored.
+ * <p>
+ * Stages are timed only for {@link #timed()} listeners, {@link #NONE} costs
+ * nothing. A listener can also stop a load at the next executed batch, see
+ * {@link #cancelled()}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface LoadListener {
+    /**
+     * Listener that ignores every event.
+     */
+    LoadListener NONE = new LoadListener() {
+        @Override
+        public boolean timed() {
+            return false;
+        }
+    };
+
+    /**
+     * Check if the listener wants each line timed. Lines are not timed for
+     * listeners that only follow counts, so they cost a call per event.
+     *
+     * @return true to time each stage, by default stages are timed.
+     */
+    default boolean timed() {
+        return true;
+    }
+
+    /**
+     * The load started.
+     */
+    default void started() {
+        // ignored
+    }
+
+    /**
+     * A line was read from the source.
+     *
+     * @param bytes size of the line on the source.
+     * @param nanos time to read it.
+     */
+    default void read(long bytes, long nanos) {
+        // ignored
+    }
+
+    /**
+     * A line was parsed. Its values are bound to the statement while they
+     * are parsed, so binding is part of this time.
+     *
+     * @param nanos time in the parser.
+     */
+    default void parsed(long nanos) {
+        // ignored
+    }
+
+    /**
+     * A line was rejected because of its format, or its row was refused
+     * by the data base, see {@link com.elbraulio.ezload.sql.BisectingBatch}.
+     */
+    default void rejected() {
+        // ignored
+    }
+
+    /**
+     * A parsed row was added to the batch.
+     *
+     * @param nanos time to add it, batch executions not included.
+     */
+    default void added(long nanos) {
+        // ignored
+    }
+
+    /**
+     * A batch was executed.
+     *
+     * @param rows  rows of the batch.
+     * @param nanos time to execute it.
+     */
+    default void executed(int rows, long nanos) {
+        // ignored
+    }
+
+    /**
+     * Rows were committed, or executed on an auto-commit connection.
+     *
+     * @param rows committed rows.
+     */
+    default void committed(long rows) {
+        // ignored
+    }
+
+    /**
+     * Check if the load must stop. It is asked after each executed batch:
+     * a cancelled load commits what was executed and returns.
+     *
+     * @return true to stop the load, by default loads are not cancelled.
+     */
+    default boolean cancelled() {
+        return false;
+    }
+
+    /**
+     * The load ended.
+     *
+     * @param completed false if the load failed.
+     */
+    default void finished(boolean completed) {
+        // ignored
+    }
+}
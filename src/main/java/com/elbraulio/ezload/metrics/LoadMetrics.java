@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listener that sums the events of one or more loads and times each stage,
+ * so a slow load shows whether it waits on the source, the parser, the
+ * batch or the data base. Batch executions are also kept on a
+ * {@link LatencyHistogram}. It can be shared by loads running in parallel.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LoadMetrics implements LoadListener {
+    private final long start;
+    private final LongAdder lines;
+    private final LongAdder bytes;
+    private final LongAdder readNanos;
+    private final LongAdder parsed;
+    private final LongAdder parseNanos;
+    private final LongAdder rejected;
+    private final LongAdder addNanos;
+    private final LongAdder rows;
+    private final LongAdder executeNanos;
+    private final LatencyHistogram batches;
+
+    /**
+     * Ctor. Throughput is measured from now.
+     */
+    public LoadMetrics() {
+        this.start = System.nanoTime();
+        this.lines = new LongAdder();
+        this.bytes = new LongAdder();
+        this.readNanos = new LongAdder();
+        this.parsed = new LongAdder();
+        this.parseNanos = new LongAdder();
+        this.rejected = new LongAdder();
+        this.addNanos = new LongAdder();
+        this.rows = new LongAdder();
+        this.executeNanos = new LongAdder();
+        this.batches = new LatencyHistogram();
+    }
+
+    @Override
+    public void read(long bytes, long nanos) {
+        this.lines.increment();
+        this.bytes.add(bytes);
+        this.readNanos.add(nanos);
+    }
+
+    @Override
+    public void parsed(long nanos) {
+        this.parsed.increment();
+        this.parseNanos.add(nanos);
+    }
+
+    @Override
+    public void rejected() {
+        this.rejected.increment();
+    }
+
+    @Override
+    public void added(long nanos) {
+        this.addNanos.add(nanos);
+    }
+
+    @Override
+    public void executed(int rows, long nanos) {
+        this.rows.add(rows);
+        this.executeNanos.add(nanos);
+        this.batches.record(nanos);
+    }
+
+    /**
+     * Current values of the metrics.
+     *
+     * @return metrics snapshot.
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(
+                System.nanoTime() - this.start,
+                new long[]{
+                        this.lines.sum(), this.bytes.sum(),
+                        this.readNanos.sum(), this.parsed.sum(),
+                        this.parseNanos.sum(), this.rejected.sum(),
+                        this.addNanos.sum(), this.rows.sum(),
+                        this.executeNanos.sum(),
+                },
+                this.batches.copy()
+        );
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Listener that shows the progress of a load through JMX. It registers
+ * itself on the platform MBean server when the load starts, as
+ * "com.elbraulio.ezload:type=Load,table=...,id=...", and unregisters when
+ * the load ends. Throughput is measured over the batches executed on the
+ * last 10 seconds. Counts are published after each batch, so reading them
+ * does not slow down the load, and lines are not timed.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LoadProgress implements LoadListener, LoadProgressMBean {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+    private static final long WINDOW = 10L * LoadProgress.SECOND;
+    private static final int SAMPLES = 32;
+    private static final AtomicLong IDS = new AtomicLong();
+    private final String table;
+    private final long total;
+    private final long[] times;
+    private final long[] rows;
+    private final long[] bytes;
+    private ObjectName name;
+    private long start;
+    private int sampled;
+    private long consumed;
+    private long executed;
+    private volatile long committed;
+    private volatile long rejected;
+    private volatile int chunkSize;
+    private volatile long bytesRead;
+    private volatile boolean cancelled;
+
+    /**
+     * Ctor.
+     *
+     * @param table table of the load.
+     * @param total size of the source, -1 if it is not known.
+     */
+    public LoadProgress(String table, long total) {
+        this.table = table;
+        this.total = total;
+        this.times = new long[LoadProgress.SAMPLES];
+        this.rows = new long[LoadProgress.SAMPLES];
+        this.bytes = new long[LoadProgress.SAMPLES];
+    }
+
+    @Override
+    public boolean timed() {
+        return false;
+    }
+
+    @Override
+    public void started() {
+        synchronized (this) {
+            this.start = System.nanoTime();
+        }
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName id = new ObjectName(
+                    "com.elbraulio.ezload:type=Load,table=" +
+                            ObjectName.quote(this.table) + ",id=" +
+                            LoadProgress.IDS.incrementAndGet()
+            );
+            server.registerMBean(this, id);
+            this.name = id;
+        } catch (JMException e) {
+            // progress is not shown but the load goes on
+            this.name = null;
+        }
+    }
+
+    @Override
+    public void read(long bytes, long nanos) {
+        this.consumed += bytes;
+    }
+
+    @Override
+    public void rejected() {
+        this.rejected++;
+    }
+
+    @Override
+    public void executed(int rows, long nanos) {
+        this.executed += rows;
+        this.chunkSize = rows;
+        this.bytesRead = this.consumed;
+        this.sample(this.executed, this.consumed);
+    }
+
+    @Override
+    public void committed(long rows) {
+        this.committed += rows;
+    }
+
+    @Override
+    public boolean cancelled() {
+        return this.cancelled;
+    }
+
+    @Override
+    public void finished(boolean completed) {
+        this.bytesRead = this.consumed;
+        if (this.name != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer()
+                        .unregisterMBean(this.name);
+            } catch (JMException e) {
+                // already unregistered
+            }
+            this.name = null;
+        }
+    }
+
+    @Override
+    public String getTable() {
+        return this.table;
+    }
+
+    @Override
+    public long getRowsCommitted() {
+        return this.committed;
+    }
+
+    @Override
+    public long getRowsRejected() {
+        return this.rejected;
+    }
+
+    @Override
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return this.bytesRead;
+    }
+
+    @Override
+    public long getBytesTotal() {
+        return this.total;
+    }
+
+    @Override
+    public double getRowsPerSecond() {
+        return this.perSecond(this.rows);
+    }
+
+    @Override
+    public long getEtaSeconds() {
+        final double rate = this.perSecond(this.bytes);
+        if (this.total < 0L || rate <= 0.0) {
+            return -1L;
+        }
+        return (long) Math.ceil(
+                Math.max(this.total - this.bytesRead, 0L) / rate
+        );
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    @Override
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Keep the totals after an executed batch.
+     *
+     * @param rows  executed rows.
+     * @param bytes consumed bytes.
+     */
+    private synchronized void sample(long rows, long bytes) {
+        final int index = this.sampled % LoadProgress.SAMPLES;
+        this.times[index] = System.nanoTime();
+        this.rows[index] = rows;
+        this.bytes[index] = bytes;
+        this.sampled++;
+    }
+
+    /**
+     * Growth per second of a total up to the last sample, since the oldest
+     * sample of the window. When no older sample is on the window, since
+     * the sample before the last one.
+     *
+     * @param totals rows or bytes of each sample.
+     * @return amount per second, 0 if no batch ended on the window.
+     */
+    private synchronized double perSecond(long[] totals) {
+        if (this.sampled == 0) {
+            return 0.0;
+        }
+        final long now = System.nanoTime();
+        final int last = (this.sampled - 1) % LoadProgress.SAMPLES;
+        if (now - this.times[last] > LoadProgress.WINDOW) {
+            return 0.0;
+        }
+        // the start is the first sample until it is overwritten
+        long from = this.start;
+        long base = 0L;
+        if (this.sampled > LoadProgress.SAMPLES ||
+                now - this.start > LoadProgress.WINDOW) {
+            final int count = Math.min(this.sampled, LoadProgress.SAMPLES);
+            for (int i = count; i > 1; i--) {
+                final int index = (this.sampled - i) % LoadProgress.SAMPLES;
+                from = this.times[index];
+                base = totals[index];
+                if (now - from <= LoadProgress.WINDOW) {
+                    break;
+                }
+            }
+        }
+        final long elapsed = this.times[last] - from;
+        if (elapsed <= 0L) {
+            return 0.0;
+        }
+        return (totals[last] - base) * (double) LoadProgress.SECOND / elapsed;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+/**
+ * Management interface of a running load, see {@link LoadProgress}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface LoadProgressMBean {
+    /**
+     * Table of the load.
+     *
+     * @return table name.
+     */
+    String getTable();
+
+    /**
+     * Rows committed so far.
+     *
+     * @return committed rows.
+     */
+    long getRowsCommitted();
+
+    /**
+     * Lines rejected so far.
+     *
+     * @return rejected lines.
+     */
+    long getRowsRejected();
+
+    /**
+     * Rows of the last executed batch.
+     *
+     * @return chunk size.
+     */
+    int getChunkSize();
+
+    /**
+     * Bytes of the source consumed by the executed batches.
+     *
+     * @return consumed bytes.
+     */
+    long getBytesRead();
+
+    /**
+     * Size of the source.
+     *
+     * @return total bytes, -1 if it is not known.
+     */
+    long getBytesTotal();
+
+    /**
+     * Rows executed per second over the last seconds.
+     *
+     * @return throughput.
+     */
+    double getRowsPerSecond();
+
+    /**
+     * Time left to consume the source at the current throughput.
+     *
+     * @return seconds left, -1 if the size of the source or the throughput
+     * is not known.
+     */
+    long getEtaSeconds();
+
+    /**
+     * Check if the load was asked to stop.
+     *
+     * @return true if it was cancelled.
+     */
+    boolean isCancelled();
+
+    /**
+     * Stop the load after its next executed batch, committing it.
+     */
+    void cancel();
+}
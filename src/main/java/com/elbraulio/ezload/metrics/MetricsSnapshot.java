@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Values of a {@link LoadMetrics} at some moment.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class MetricsSnapshot {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+    private final long elapsed;
+    private final long[] values;
+    private final LatencyHistogram batches;
+
+    /**
+     * Ctor.
+     *
+     * @param elapsed nanos since the metrics were created.
+     * @param values  lines, bytes, read nanos, parsed lines, parse nanos,
+     *                rejected lines, add nanos, executed rows and execute
+     *                nanos, in this order.
+     * @param batches latencies of the executed batches.
+     */
+    MetricsSnapshot(long elapsed, long[] values, LatencyHistogram batches) {
+        this.elapsed = elapsed;
+        this.values = values;
+        this.batches = batches;
+    }
+
+    /**
+     * Time since the metrics were created.
+     *
+     * @return elapsed nanos.
+     */
+    public long elapsedNanos() {
+        return this.elapsed;
+    }
+
+    /**
+     * Lines read from the source.
+     *
+     * @return lines.
+     */
+    public long lines() {
+        return this.values[0];
+    }
+
+    /**
+     * Bytes read from the source.
+     *
+     * @return bytes.
+     */
+    public long bytes() {
+        return this.values[1];
+    }
+
+    /**
+     * Time reading the source.
+     *
+     * @return nanos.
+     */
+    public long readNanos() {
+        return this.values[2];
+    }
+
+    /**
+     * Lines parsed, rejected ones included.
+     *
+     * @return lines.
+     */
+    public long parsed() {
+        return this.values[3];
+    }
+
+    /**
+     * Time in the parser, binding values included.
+     *
+     * @return nanos.
+     */
+    public long parseNanos() {
+        return this.values[4];
+    }
+
+    /**
+     * Lines rejected because of their format.
+     *
+     * @return lines.
+     */
+    public long rejected() {
+        return this.values[5];
+    }
+
+    /**
+     * Time adding rows to the batch.
+     *
+     * @return nanos.
+     */
+    public long addNanos() {
+        return this.values[6];
+    }
+
+    /**
+     * Rows of the executed batches.
+     *
+     * @return rows.
+     */
+    public long executed() {
+        return this.values[7];
+    }
+
+    /**
+     * Time executing batches.
+     *
+     * @return nanos.
+     */
+    public long executeNanos() {
+        return this.values[8];
+    }
+
+    /**
+     * Latencies of the executed batches.
+     *
+     * @return histogram.
+     */
+    public LatencyHistogram batches() {
+        return this.batches;
+    }
+
+    /**
+     * Lines read per second since the metrics were created.
+     *
+     * @return throughput.
+     */
+    public double linesPerSecond() {
+        return this.perSecond(this.lines());
+    }
+
+    /**
+     * Bytes read per second since the metrics were created.
+     *
+     * @return throughput.
+     */
+    public double bytesPerSecond() {
+        return this.perSecond(this.bytes());
+    }
+
+    @Override
+    public String toString() {
+        return "lines=" + this.lines() + ", bytes=" + this.bytes() +
+                ", rejected=" + this.rejected() + ", rows=" +
+                this.executed() + ", read=" + this.millis(this.readNanos()) +
+                "ms, parse=" + this.millis(this.parseNanos()) + "ms, add=" +
+                this.millis(this.addNanos()) + "ms, execute=" +
+                this.millis(this.executeNanos()) + "ms, batch p50=" +
+                this.millis(this.batches.percentile(0.5)) + "ms, batch p99=" +
+                this.millis(this.batches.percentile(0.99)) + "ms, " +
+                (long) this.linesPerSecond() + " lines/s";
+    }
+
+    /**
+     * Amount per second since the metrics were created.
+     *
+     * @param amount amount.
+     * @return throughput.
+     */
+    private double perSecond(long amount) {
+        if (this.elapsed <= 0L) {
+            return 0.0;
+        }
+        return amount * (double) MetricsSnapshot.SECOND / this.elapsed;
+    }
+
+    /**
+     * Nanos as millis.
+     *
+     * @param nanos nanos.
+     * @return millis.
+     */
+    private long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -72,10 +72,17 @@ public final class DefaultParseBuild implements ParseBuild {
         return this;
     }
 
+    /**
+     * Build the parser, choosing the {@link Separator} strategy for the
+     * expression once, see {@link Separator#of(String)}.
+     *
+     * @return parser.
+     */
     @Override
     public Parser parser() {
         return new DefaultParser(
-                this.expression, this.columnsNumber, this.columns
+                Separator.of(this.expression), this.columnsNumber,
+                this.columns
         );
     }
 }
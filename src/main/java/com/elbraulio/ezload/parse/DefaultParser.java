@@ -26,12 +26,16 @@ package com.elbraulio.ezload.parse;
 
 import com.elbraulio.ezload.column.Column;
 import com.elbraulio.ezload.exception.EzParseException;
-import com.elbraulio.ezload.line.DefaultLine;
+import com.elbraulio.ezload.field.Field;
 import com.elbraulio.ezload.line.Line;
-import com.elbraulio.ezload.value.Value;
+import com.elbraulio.ezload.line.LineBuffer;
+import com.elbraulio.ezload.line.LineScratch;
+import com.elbraulio.ezload.line.LineTarget;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -41,10 +45,9 @@ import java.util.List;
  * @since 0.1.0
  */
 public final class DefaultParser implements Parser {
-
-    private final String expression;
+    private final Separator separator;
     private final Integer columnsNumber;
-    private final List<Column> columns;
+    private final Column[] columns;
 
     /**
      * Ctor
@@ -56,60 +59,149 @@ public final class DefaultParser implements Parser {
     public DefaultParser(
             String expression, Integer columnsNumber, List<Column> columns
     ) {
+        this(Separator.of(expression), columnsNumber, columns);
+    }
 
-        this.expression = expression;
+    /**
+     * Ctor.
+     *
+     * @param separator     separator strategy.
+     * @param columnsNumber number of columns.
+     * @param columns       columns.
+     */
+    public DefaultParser(
+            Separator separator, Integer columnsNumber, List<Column> columns
+    ) {
+        this.separator = separator;
         this.columnsNumber = columnsNumber;
-        this.columns = columns;
+        this.columns = columns == null
+                ? null
+                : columns.toArray(new Column[0]);
     }
 
     @Override
     public List<Column> columns() {
-        return new ArrayList<>(this.columns);
+        return new ArrayList<>(Arrays.asList(this.columns));
     }
 
     @Override
     public String separator() {
-        return this.expression;
+        return this.separator.expression();
     }
 
     @Override
     public Line parse(String line) throws EzParseException {
-        final String[] split = line.split(this.expression, -1);
-        final List<String> errors = new LinkedList<>();
-        final List<Value> values = new LinkedList<>();
+        final LineBuffer buffer = new LineBuffer();
+        this.parse(line, buffer);
+        return buffer.line();
+    }
+
+    @Override
+    public void parse(String line, LineTarget target)
+            throws EzParseException {
+        final ParseErrors errors = target.scratch().errors();
+        if (!this.parse(line, target, errors)) {
+            throw errors.exception();
+        }
+    }
+
+    @Override
+    public boolean parse(String line, LineTarget target, ParseErrors errors) {
+        final String[] split = this.separator.split(line);
+        errors.reset(line, split);
         if (split.length < this.columnsNumber) {
-            errors.add(
-                    "line length is " + split.length +
-                            ", must be greater than " + this.columnsNumber +
-                            " on line: [" + line + "]"
-            );
-            throw new EzParseException("parse error", errors);
+            errors.length(this.columnsNumber);
+            return false;
         }
+        target.reset(this.columns.length);
+        for (int index = 0; index < this.columns.length; index++) {
+            final Column col = this.columns[index];
+            final int position = col.position();
+            if (position >= split.length) {
+                errors.missing(position);
+                continue;
+            }
+            try {
+                if (!target.fill(col, index, split[position])) {
+                    errors.rejected(position, position, position + 1);
+                }
+            } catch (Exception e) {
+                errors.invalid(position, position, position + 1, e);
+            }
+        }
+        return errors.isEmpty();
+    }
+
+    @Override
+    public Line parse(ByteBuffer record, Charset charset)
+            throws EzParseException {
+        final LineBuffer buffer = new LineBuffer();
+        this.parse(record, charset, buffer);
+        return buffer.line();
+    }
+
+    @Override
+    public void parse(ByteBuffer record, Charset charset, LineTarget target)
+            throws EzParseException {
+        final ParseErrors errors = target.scratch().errors();
+        if (!this.parse(record, charset, target, errors)) {
+            throw errors.exception();
+        }
+    }
 
-        this.columns.forEach(
-                col -> {
-                    try {
-                        final String raw = split[col.position()];
-                        if (col.isValid(raw)) {
-                            values.add(col.value(raw));
-                        } else {
-                            errors.add(
-                                    "column " + col.position() + " does not " +
-                                            "accept value '" + raw + "'"
-                            );
-                        }
-                    } catch (Exception e) {
-                        errors.add(
-                                "column " + col.position() + ": " +
-                                        e.toString()
-                        );
-                    }
+    /**
+     * Fields are found by the {@link Separator} over the record bytes, so
+     * no String is created unless a column needs one. Separators that are
+     * regular expressions are decoded and parsed by
+     * {@link #parse(String, LineTarget, ParseErrors)}.
+     *
+     * @param record  raw record.
+     * @param charset record charset.
+     * @param target  where values are put.
+     * @param errors  where errors are kept.
+     * @return true if the record has no errors.
+     */
+    @Override
+    public boolean parse(
+            ByteBuffer record, Charset charset, LineTarget target,
+            ParseErrors errors
+    ) {
+        final LineScratch scratch = target.scratch();
+        final int fields = this.separator.fields(record, charset, scratch);
+        if (fields < 0) {
+            return this.parse(
+                    charset.decode(record.duplicate()).toString(), target,
+                    errors
+            );
+        }
+        errors.reset(record, charset, fields);
+        if (fields < this.columnsNumber) {
+            errors.length(this.columnsNumber);
+            return false;
+        }
+        target.reset(this.columns.length);
+        final Field field = scratch.field(charset);
+        for (int value = 0; value < this.columns.length; value++) {
+            final Column col = this.columns[value];
+            final int position = col.position();
+            if (position >= fields) {
+                errors.missing(position);
+                continue;
+            }
+            final int start = scratch.start(position);
+            final int end = scratch.end(position);
+            try {
+                field.window(record, start, end - start);
+                final boolean filled = target.fill(col, value, field);
+                if (field.isInvalid()) {
+                    errors.number(position, start, end);
+                } else if (!filled) {
+                    errors.rejected(position, start, end);
                 }
-        );
-        if (errors.isEmpty()) {
-            return new DefaultLine(values);
-        } else {
-            throw new EzParseException("parse errors", errors);
+            } catch (Exception e) {
+                errors.invalid(position, start, end, e);
+            }
         }
+        return errors.isEmpty();
     }
 }
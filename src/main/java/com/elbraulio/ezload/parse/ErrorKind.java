@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+/**
+ * Kind of a parse error kept by {@link ParseErrors}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public enum ErrorKind {
+    /**
+     * The line has less fields than the parser needs.
+     */
+    LENGTH,
+    /**
+     * The line has no field at the column position.
+     */
+    MISSING,
+    /**
+     * The column constrain does not accept the value.
+     */
+    REJECTED,
+    /**
+     * The value could not be transformed or put.
+     */
+    INVALID,
+    /**
+     * The field is not a number, it was marked by its transform with
+     * {@link com.elbraulio.ezload.field.Field#invalid()} instead of throwing.
+     */
+    NUMBER,
+    /**
+     * Error that only has a message, from parsers that throw
+     * {@link com.elbraulio.ezload.exception.EzParseException}.
+     */
+    MESSAGE
+}
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.field.EncodedText;
+import com.elbraulio.ezload.line.LineScratch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Separator made of plain text, like "::" or "\\|\\|". Lines are scanned
+ * with {@link String#indexOf(String, int)} and records byte by byte.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LiteralSeparator implements Separator {
+    private final String literal;
+    private final String expression;
+    private final EncodedText encoded;
+
+    /**
+     * Ctor.
+     *
+     * @param literal separator text.
+     */
+    public LiteralSeparator(String literal) {
+        this(literal, literal);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param literal    separator text.
+     * @param expression expression that defines the separator.
+     */
+    public LiteralSeparator(String literal, String expression) {
+        this.literal = literal;
+        this.expression = expression;
+        this.encoded = new EncodedText(literal);
+    }
+
+    @Override
+    public String expression() {
+        return this.expression;
+    }
+
+    @Override
+    public String[] split(String line) {
+        final List<String> fields = new ArrayList<>();
+        int start = 0;
+        int index = line.indexOf(this.literal);
+        while (index >= 0) {
+            fields.add(line.substring(start, index));
+            start = index + this.literal.length();
+            index = line.indexOf(this.literal, start);
+        }
+        fields.add(line.substring(start));
+        return fields.toArray(new String[0]);
+    }
+
+    @Override
+    public int fields(ByteBuffer record, Charset charset, LineScratch scratch) {
+        return LiteralSeparator.fields(
+                record, this.encoded.bytes(charset), scratch
+        );
+    }
+
+    /**
+     * Find the fields of a record separated by some bytes.
+     *
+     * @param record    raw record.
+     * @param separator separator bytes.
+     * @param scratch   where bounds are kept.
+     * @return number of fields.
+     */
+    static int fields(
+            ByteBuffer record, byte[] separator, LineScratch scratch
+    ) {
+        final int limit = record.limit();
+        int fields = 0;
+        int start = record.position();
+        int index = start;
+        while (index <= limit - separator.length) {
+            if (LiteralSeparator.matches(record, index, separator)) {
+                scratch.bounds(fields++, start, index);
+                index += separator.length;
+                start = index;
+            } else {
+                index++;
+            }
+        }
+        scratch.bounds(fields++, start, limit);
+        return fields;
+    }
+
+    /**
+     * Checks if the separator starts at the given index.
+     *
+     * @param record    raw record.
+     * @param index     index to check.
+     * @param separator separator bytes.
+     * @return true if the separator is found.
+     */
+    private static boolean matches(
+            ByteBuffer record, int index, byte[] separator
+    ) {
+        for (int i = 0; i < separator.length; i++) {
+            if (record.get(index + i) != separator[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
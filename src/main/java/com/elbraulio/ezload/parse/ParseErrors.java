@@ -0,0 +1,358 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.exception.EzParseException;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Errors of the last parsed line, kept as compact codes: the column, the
+ * {@link ErrorKind} and the offset of the field on the line. Parsers only
+ * keep a reference to the line, so human readable messages are built when
+ * {@link #messages()} is called, before the next line is parsed over the
+ * same memory.
+ * <p>
+ * ParseErrors is reused between lines and it is not thread safe.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class ParseErrors {
+    private ErrorKind[] kinds;
+    private int[] columns;
+    private int[] starts;
+    private int[] ends;
+    private Object[] details;
+    private int count;
+    private String line;
+    private String[] fields;
+    private ByteBuffer record;
+    private Charset charset;
+    private int found;
+    private int expected;
+
+    /**
+     * Ctor.
+     */
+    public ParseErrors() {
+        this.kinds = new ErrorKind[4];
+        this.columns = new int[4];
+        this.starts = new int[4];
+        this.ends = new int[4];
+        this.details = new Object[4];
+    }
+
+    /**
+     * Forget the errors of the previous line.
+     */
+    public void reset() {
+        for (int i = 0; i < this.count; i++) {
+            this.details[i] = null;
+        }
+        this.count = 0;
+        this.line = null;
+        this.fields = null;
+        this.record = null;
+        this.charset = null;
+    }
+
+    /**
+     * Start a new text line.
+     *
+     * @param line   raw line.
+     * @param fields fields of the line.
+     */
+    public void reset(String line, String[] fields) {
+        this.reset();
+        this.line = line;
+        this.fields = fields;
+        this.found = fields.length;
+    }
+
+    /**
+     * Start a new record.
+     *
+     * @param record  raw record, between its position and limit.
+     * @param charset record charset.
+     * @param found   number of fields found.
+     */
+    public void reset(ByteBuffer record, Charset charset, int found) {
+        this.reset();
+        this.record = record;
+        this.charset = charset;
+        this.found = found;
+    }
+
+    /**
+     * The line has less fields than needed.
+     *
+     * @param expected number of fields needed.
+     */
+    public void length(int expected) {
+        this.expected = expected;
+        this.add(ErrorKind.LENGTH, -1, 0, 0, null);
+    }
+
+    /**
+     * There is no field for a column.
+     *
+     * @param column column position.
+     */
+    public void missing(int column) {
+        this.add(ErrorKind.MISSING, column, 0, 0, null);
+    }
+
+    /**
+     * A column does not accept its value. On text lines the bounds are the
+     * ones of the field, on records they are the bytes of the record.
+     *
+     * @param column column position.
+     * @param start  first byte or char of the field.
+     * @param end    byte or char after the last one of the field.
+     */
+    public void rejected(int column, int start, int end) {
+        this.add(ErrorKind.REJECTED, column, start, end, null);
+    }
+
+    /**
+     * A field is not a number. The message is the one of the
+     * {@link NumberFormatException} that the transform did not create.
+     *
+     * @param column column position.
+     * @param start  first byte of the field.
+     * @param end    byte after the last one of the field.
+     */
+    public void number(int column, int start, int end) {
+        this.add(ErrorKind.NUMBER, column, start, end, null);
+    }
+
+    /**
+     * A column could not transform or put its value.
+     *
+     * @param column column position.
+     * @param start  first byte or char of the field.
+     * @param end    byte or char after the last one of the field.
+     * @param cause  error found.
+     */
+    public void invalid(int column, int start, int end, Throwable cause) {
+        this.add(ErrorKind.INVALID, column, start, end, cause);
+    }
+
+    /**
+     * Add errors that only have their messages.
+     *
+     * @param messages error messages.
+     */
+    public void messages(List<String> messages) {
+        for (String message : messages) {
+            this.add(ErrorKind.MESSAGE, -1, 0, 0, message);
+        }
+    }
+
+    /**
+     * Number of errors of the line.
+     *
+     * @return errors.
+     */
+    public int count() {
+        return this.count;
+    }
+
+    /**
+     * Checks if the line has no errors.
+     *
+     * @return true if there are no errors.
+     */
+    public boolean isEmpty() {
+        return this.count == 0;
+    }
+
+    /**
+     * Kind of an error.
+     *
+     * @param index error index.
+     * @return kind.
+     */
+    public ErrorKind kind(int index) {
+        return this.kinds[index];
+    }
+
+    /**
+     * Column position of an error, -1 if it is about the whole line.
+     *
+     * @param index error index.
+     * @return column position.
+     */
+    public int column(int index) {
+        return this.columns[index];
+    }
+
+    /**
+     * Offset of the field of an error from the start of the record, in bytes
+     * for records and in fields for text lines.
+     *
+     * @param index error index.
+     * @return offset.
+     */
+    public int offset(int index) {
+        if (this.record == null) {
+            return this.starts[index];
+        }
+        return this.starts[index] - this.record.position();
+    }
+
+    /**
+     * Build a readable message for each error.
+     *
+     * @return messages.
+     */
+    public List<String> messages() {
+        final List<String> messages = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++) {
+            messages.add(this.message(i));
+        }
+        return messages;
+    }
+
+    /**
+     * Build a stackless exception with the messages of the errors.
+     *
+     * @return exception.
+     */
+    public EzParseException exception() {
+        return new EzParseException(
+                this.count == 1 && this.kinds[0] == ErrorKind.LENGTH
+                        ? "parse error"
+                        : "parse errors",
+                this.messages(),
+                false
+        );
+    }
+
+    /**
+     * Readable message of an error.
+     *
+     * @param index error index.
+     * @return message.
+     */
+    private String message(int index) {
+        final int column = this.columns[index];
+        switch (this.kinds[index]) {
+            case LENGTH:
+                return "line length is " + this.found +
+                        ", must be greater than " + this.expected +
+                        " on line: [" + this.text() + "]";
+            case MISSING:
+                return "column " + column + ": " +
+                        ParseErrors.outOfBounds(column, this.found);
+            case REJECTED:
+                return "column " + column + " does not accept value '" +
+                        this.text(index) + "'";
+            case INVALID:
+                return "column " + column + ": " + this.details[index];
+            case NUMBER:
+                return "column " + column + ": " +
+                        NumberFormatException.class.getName() +
+                        ": For input string: \"" + this.text(index) + "\"";
+            default:
+                return String.valueOf(this.details[index]);
+        }
+    }
+
+    /**
+     * Error that reading a missing field threw before errors were kept as
+     * codes, with the wording of Java 11 and later.
+     *
+     * @param index  missing index.
+     * @param length number of fields.
+     * @return error text.
+     */
+    private static String outOfBounds(int index, int length) {
+        return ArrayIndexOutOfBoundsException.class.getName() + ": Index " +
+                index + " out of bounds for length " + length;
+    }
+
+    /**
+     * Text of the whole line.
+     *
+     * @return line.
+     */
+    private String text() {
+        if (this.record == null) {
+            return this.line;
+        }
+        return this.charset.decode(this.record.duplicate()).toString();
+    }
+
+    /**
+     * Text of the field of an error.
+     *
+     * @param index error index.
+     * @return field text.
+     */
+    private String text(int index) {
+        if (this.record == null) {
+            return this.fields[this.starts[index]];
+        }
+        final ByteBuffer field = this.record.duplicate();
+        ((Buffer) field).limit(this.ends[index]);
+        ((Buffer) field).position(this.starts[index]);
+        return this.charset.decode(field).toString();
+    }
+
+    /**
+     * Add an error.
+     *
+     * @param kind   error kind.
+     * @param column column position.
+     * @param start  field start.
+     * @param end    field end.
+     * @param detail cause or message.
+     */
+    private void add(
+            ErrorKind kind, int column, int start, int end, Object detail
+    ) {
+        if (this.count == this.kinds.length) {
+            final int length = this.count * 2;
+            this.kinds = Arrays.copyOf(this.kinds, length);
+            this.columns = Arrays.copyOf(this.columns, length);
+            this.starts = Arrays.copyOf(this.starts, length);
+            this.ends = Arrays.copyOf(this.ends, length);
+            this.details = Arrays.copyOf(this.details, length);
+        }
+        this.kinds[this.count] = kind;
+        this.columns[this.count] = column;
+        this.starts[this.count] = start;
+        this.ends[this.count] = end;
+        this.details[this.count] = detail;
+        this.count++;
+    }
+}
@@ -25,9 +25,14 @@
 package com.elbraulio.ezload.parse;
 
 import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.exception.EzException;
 import com.elbraulio.ezload.exception.EzParseException;
 import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.line.LineTarget;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -60,4 +65,120 @@ public interface Parser {
      * @throws EzParseException when raw line has format errors.
      */
     Line parse(String line) throws EzParseException;
+
+    /**
+     * Parse a raw record from its bytes, between the position and the limit
+     * of <code>record</code>. By default the record is decoded and parsed by
+     * {@link #parse(String)}.
+     *
+     * @param record  raw record.
+     * @param charset record charset.
+     * @return parsed line.
+     * @throws EzParseException when raw record has format errors.
+     * @since 0.4.0
+     */
+    default Line parse(ByteBuffer record, Charset charset)
+            throws EzParseException {
+        return this.parse(charset.decode(record.duplicate()).toString());
+    }
+
+    /**
+     * Parse a raw line into a target. By default the line is parsed by
+     * {@link #parse(String)} and loaded on the target.
+     *
+     * @param line   raw line.
+     * @param target where values are put.
+     * @throws EzParseException when raw line has format errors or its values
+     *                          can not be put.
+     * @since 0.4.0
+     */
+    default void parse(String line, LineTarget target)
+            throws EzParseException {
+        Parser.load(this.parse(line), target);
+    }
+
+    /**
+     * Parse a raw record from its bytes into a target. By default the record
+     * is parsed by {@link #parse(ByteBuffer, Charset)} and loaded on the
+     * target.
+     *
+     * @param record  raw record.
+     * @param charset record charset.
+     * @param target  where values are put.
+     * @throws EzParseException when raw record has format errors or its
+     *                          values can not be put.
+     * @since 0.4.0
+     */
+    default void parse(ByteBuffer record, Charset charset, LineTarget target)
+            throws EzParseException {
+        Parser.load(this.parse(record, charset), target);
+    }
+
+    /**
+     * Parse a raw line into a target, returning its errors instead of
+     * throwing them. By default errors thrown by
+     * {@link #parse(String, LineTarget)} are kept as messages.
+     *
+     * @param line   raw line.
+     * @param target where values are put.
+     * @param errors where errors are kept, they are reset first.
+     * @return true if the line has no errors.
+     * @since 0.4.0
+     */
+    default boolean parse(String line, LineTarget target, ParseErrors errors) {
+        errors.reset();
+        try {
+            this.parse(line, target);
+            return true;
+        } catch (EzParseException e) {
+            errors.messages(e.errors());
+            return false;
+        }
+    }
+
+    /**
+     * Parse a raw record from its bytes into a target, returning its errors
+     * instead of throwing them. By default errors thrown by
+     * {@link #parse(ByteBuffer, Charset, LineTarget)} are kept as messages.
+     *
+     * @param record  raw record.
+     * @param charset record charset.
+     * @param target  where values are put.
+     * @param errors  where errors are kept, they are reset first.
+     * @return true if the record has no errors.
+     * @since 0.4.0
+     */
+    default boolean parse(
+            ByteBuffer record, Charset charset, LineTarget target,
+            ParseErrors errors
+    ) {
+        errors.reset();
+        try {
+            this.parse(record, charset, target);
+            return true;
+        } catch (EzParseException e) {
+            errors.messages(e.errors());
+            return false;
+        }
+    }
+
+    /**
+     * Load a parsed line on a target.
+     *
+     * @param line   parsed line.
+     * @param target where values are put.
+     * @throws EzParseException when values can not be put.
+     * @since 0.4.0
+     */
+    static void load(Line line, LineTarget target) throws EzParseException {
+        try {
+            target.load(line);
+        } catch (EzException e) {
+            throw new EzParseException(
+                    "load error",
+                    Collections.singletonList(e.toString()),
+                    e
+            );
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.line.LineScratch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.regex.Pattern;
+
+/**
+ * Separator defined by a regular expression, compiled once. Records are
+ * decoded before being split.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class RegexSeparator implements Separator {
+    private final String expression;
+    private final Pattern pattern;
+
+    /**
+     * Ctor. A null expression fails when a line is split, as
+     * {@link String#split(String)} does.
+     *
+     * @param expression regular expression.
+     */
+    public RegexSeparator(String expression) {
+        this.expression = expression;
+        this.pattern = expression == null ? null : Pattern.compile(expression);
+    }
+
+    @Override
+    public String expression() {
+        return this.expression;
+    }
+
+    @Override
+    public String[] split(String line) {
+        return this.pattern.split(line, -1);
+    }
+
+    @Override
+    public int fields(ByteBuffer record, Charset charset, LineScratch scratch) {
+        return -1;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.line.LineScratch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Strategy to find the fields of a line. It is chosen once from the
+ * separator expression by {@link #of(String)}, so lines are split by a
+ * plain scanner unless the expression really needs a regular expression.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface Separator {
+    /**
+     * Characters with a meaning on regular expressions.
+     */
+    String REGEX_CHARS = ".$|()[]{}^?*+\\";
+
+    /**
+     * Expression that defines the separator.
+     *
+     * @return separator expression.
+     */
+    String expression();
+
+    /**
+     * Split a line, the same as
+     * <code>line.split(expression(), -1)</code>.
+     *
+     * @param line raw line.
+     * @return fields.
+     */
+    String[] split(String line);
+
+    /**
+     * Find the fields of a record between the position and the limit of
+     * <code>record</code>, keeping their bounds on <code>scratch</code>.
+     *
+     * @param record  raw record.
+     * @param charset record charset.
+     * @param scratch where bounds are kept.
+     * @return number of fields, or -1 if the separator can only be found on
+     * decoded text.
+     */
+    int fields(ByteBuffer record, Charset charset, LineScratch scratch);
+
+    /**
+     * Choose the strategy for an expression:
+     * <ul>
+     * <li>single characters without a meaning on regular expressions, like
+     * "," or ";", are scanned as a plain character;</li>
+     * <li>expressions without regular expression characters, or with them
+     * escaped like "\\|\\|", are scanned as plain text;</li>
+     * <li>anything else is a precompiled regular expression, with the same
+     * meaning than on {@link String#split(String)}. So "|" matches the
+     * empty text and an invalid expression throws a
+     * {@link PatternSyntaxException}.</li>
+     * </ul>
+     *
+     * @param expression separator expression.
+     * @return separator.
+     * @throws PatternSyntaxException if the expression is not valid.
+     */
+    static Separator of(String expression) {
+        if (expression == null || expression.isEmpty()) {
+            return new RegexSeparator(expression);
+        }
+        if (expression.length() == 1) {
+            if (Separator.REGEX_CHARS.indexOf(expression.charAt(0)) >= 0) {
+                return new RegexSeparator(expression);
+            }
+            return new SingleCharSeparator(expression.charAt(0));
+        }
+        final StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < expression.length(); i++) {
+            char current = expression.charAt(i);
+            if (current == '\\') {
+                if (i + 1 == expression.length()) {
+                    return new RegexSeparator(expression);
+                }
+                current = expression.charAt(++i);
+                if (Separator.REGEX_CHARS.indexOf(current) < 0) {
+                    return new RegexSeparator(expression);
+                }
+            } else if (Separator.REGEX_CHARS.indexOf(current) >= 0) {
+                return new RegexSeparator(expression);
+            }
+            literal.append(current);
+        }
+        if (literal.length() == 1) {
+            return new SingleCharSeparator(literal.charAt(0), expression);
+        }
+        return new LiteralSeparator(literal.toString(), expression);
+    }
+}
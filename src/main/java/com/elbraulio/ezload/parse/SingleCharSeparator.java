@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.field.EncodedText;
+import com.elbraulio.ezload.line.LineScratch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Separator of a single character, like "," or "\\|". Lines and records are
+ * scanned character by character. Escaped characters of regular
+ * expressions are taken as plain characters.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class SingleCharSeparator implements Separator {
+    private final char separator;
+    private final String expression;
+    private final EncodedText encoded;
+
+    /**
+     * Ctor.
+     *
+     * @param separator separator character.
+     */
+    public SingleCharSeparator(char separator) {
+        this(separator, String.valueOf(separator));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param separator  separator character.
+     * @param expression expression that defines the separator.
+     */
+    public SingleCharSeparator(char separator, String expression) {
+        this.separator = separator;
+        this.expression = expression;
+        this.encoded = new EncodedText(String.valueOf(separator));
+    }
+
+    @Override
+    public String expression() {
+        return this.expression;
+    }
+
+    @Override
+    public String[] split(String line) {
+        int count = 1;
+        int index = line.indexOf(this.separator);
+        while (index >= 0) {
+            count++;
+            index = line.indexOf(this.separator, index + 1);
+        }
+        final String[] fields = new String[count];
+        int start = 0;
+        for (int i = 0; i < count - 1; i++) {
+            index = line.indexOf(this.separator, start);
+            fields[i] = line.substring(start, index);
+            start = index + 1;
+        }
+        fields[count - 1] = line.substring(start);
+        return fields;
+    }
+
+    @Override
+    public int fields(ByteBuffer record, Charset charset, LineScratch scratch) {
+        final byte[] bytes = this.encoded.bytes(charset);
+        if (bytes.length != 1) {
+            return LiteralSeparator.fields(record, bytes, scratch);
+        }
+        final byte target = bytes[0];
+        final int limit = record.limit();
+        int fields = 0;
+        int start = record.position();
+        for (int i = start; i < limit; i++) {
+            if (record.get(i) == target) {
+                scratch.bounds(fields++, start, i);
+                start = i + 1;
+            }
+        }
+        scratch.bounds(fields++, start, limit);
+        return fields;
+    }
+}
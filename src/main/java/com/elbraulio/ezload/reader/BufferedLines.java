@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.line.LineTarget;
+import com.elbraulio.ezload.parse.ParseErrors;
+import com.elbraulio.ezload.parse.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Reads records line by line from a {@link BufferedReader}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class BufferedLines implements EzReader {
+    private final BufferedReader bufferedReader;
+    private String line;
+
+    /**
+     * Ctor.
+     *
+     * @param bufferedReader source reader.
+     */
+    public BufferedLines(BufferedReader bufferedReader) {
+        this.bufferedReader = bufferedReader;
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        this.line = this.bufferedReader.readLine();
+        return this.line != null;
+    }
+
+    @Override
+    public String line() {
+        return this.line;
+    }
+
+    @Override
+    public Line parse(Parser parser) throws EzParseException {
+        return parser.parse(this.line);
+    }
+
+    @Override
+    public void parse(Parser parser, LineTarget target)
+            throws EzParseException {
+        parser.parse(this.line, target);
+    }
+
+    @Override
+    public boolean parse(Parser parser, LineTarget target, ParseErrors errors) {
+        return parser.parse(this.line, target, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.bufferedReader.close();
+    }
+}
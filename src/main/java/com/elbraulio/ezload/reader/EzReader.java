@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.line.LineTarget;
+import com.elbraulio.ezload.parse.ParseErrors;
+import com.elbraulio.ezload.parse.Parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * Source of records to load. It works as a cursor: {@link #next()} moves to
+ * the next record and the other methods work over the current one. Each
+ * implementation decides how records are read and in which representation
+ * they are handed to a {@link Parser}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface EzReader extends Closeable {
+
+    /**
+     * Move to the next record.
+     *
+     * @return true if there is a current record, false when the source is
+     * exhausted.
+     * @throws IOException when the source can not be read.
+     */
+    boolean next() throws IOException;
+
+    /**
+     * Current record as text.
+     *
+     * @return current record.
+     */
+    String line();
+
+    /**
+     * Size of the current record on the source, without its line
+     * terminator. By default it is the length of {@link #line()}, which
+     * counts characters instead of bytes.
+     *
+     * @return record size.
+     * @since 0.4.0
+     */
+    default long bytes() {
+        return this.line().length();
+    }
+
+    /**
+     * Position on the source after the current record, where the next one
+     * starts. It lets a load restart from a record, see
+     * {@link com.elbraulio.ezload.sql.TableCheckpoint}.
+     *
+     * @return source position, -1 if it is not known.
+     * @since 0.4.0
+     */
+    default long offset() {
+        return -1L;
+    }
+
+    /**
+     * Current record as bytes, without its line terminator. The window is
+     * only valid until {@link #next()}, copy it to keep it. By default
+     * records have no byte representation.
+     *
+     * @return window over the record bytes between its position and limit,
+     * null if the source is read as text.
+     * @since 0.4.0
+     */
+    default ByteBuffer window() {
+        return null;
+    }
+
+    /**
+     * Charset of the bytes given by {@link #window()}.
+     *
+     * @return record charset, null if the source is read as text.
+     * @since 0.4.0
+     */
+    default Charset charset() {
+        return null;
+    }
+
+    /**
+     * Size of the source, like the bytes of a file.
+     *
+     * @return source size, -1 if it is not known.
+     * @since 0.4.0
+     */
+    default long size() {
+        return -1L;
+    }
+
+    /**
+     * Parse the current record with its native representation.
+     *
+     * @param parser parser with format.
+     * @return parsed line.
+     * @throws EzParseException when the record has format errors.
+     */
+    Line parse(Parser parser) throws EzParseException;
+
+    /**
+     * Parse the current record into a target. By default the record is
+     * parsed by {@link #parse(Parser)} and loaded on the target.
+     *
+     * @param parser parser with format.
+     * @param target where values are put.
+     * @throws EzParseException when the record has format errors or its
+     *                          values can not be put.
+     * @since 0.4.0
+     */
+    default void parse(Parser parser, LineTarget target)
+            throws EzParseException {
+        Parser.load(this.parse(parser), target);
+    }
+
+    /**
+     * Parse the current record into a target, returning its errors instead
+     * of throwing them. By default errors thrown by
+     * {@link #parse(Parser, LineTarget)} are kept as messages.
+     *
+     * @param parser parser with format.
+     * @param target where values are put.
+     * @param errors where errors are kept, they are reset first.
+     * @return true if the record has no errors.
+     * @since 0.4.0
+     */
+    default boolean parse(
+            Parser parser, LineTarget target, ParseErrors errors
+    ) {
+        errors.reset();
+        try {
+            this.parse(parser, target);
+            return true;
+        } catch (EzParseException e) {
+            errors.messages(e.errors());
+            return false;
+        }
+    }
+}
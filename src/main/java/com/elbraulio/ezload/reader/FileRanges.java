@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Splits a file in consecutive byte ranges that can be read at the same
+ * time. Ranges are cut by size, each one is read by a {@link MappedFile}
+ * that aligns it to record boundaries.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class FileRanges {
+    private static final long RANGE = 16L << 20;
+    private final Path path;
+    private final Charset charset;
+    private final long rangeSize;
+    private final long size;
+
+    /**
+     * Ctor.
+     *
+     * @param path file to split, read as UTF-8.
+     * @throws IOException when the file size can not be read.
+     */
+    public FileRanges(Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8, FileRanges.RANGE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path      file to split.
+     * @param charset   file charset.
+     * @param rangeSize bytes per range.
+     * @throws IOException when the file size can not be read.
+     */
+    public FileRanges(Path path, Charset charset, long rangeSize)
+            throws IOException {
+        this.path = path;
+        this.charset = charset;
+        this.rangeSize = rangeSize;
+        this.size = Files.size(path);
+    }
+
+    /**
+     * Number of ranges.
+     *
+     * @return ranges.
+     */
+    public int count() {
+        return (int) Math.max(
+                1L, (this.size + this.rangeSize - 1L) / this.rangeSize
+        );
+    }
+
+    /**
+     * Open a reader for a range.
+     *
+     * @param index range from 0 to {@link #count()} - 1.
+     * @return reader of the records that start on the range.
+     * @throws IOException when the file can not be opened.
+     */
+    public EzReader range(int index) throws IOException {
+        final long from = index * this.rangeSize;
+        return new MappedFile(
+                this.path, this.charset, from, from + this.rangeSize
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reader;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads the records of an {@link EzReader} as text, one record per line.
+ * It lets an {@link com.elbraulio.ezload.sql.Insert} that only reads a
+ * {@link java.io.BufferedReader} load from any source.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LinesReader extends Reader {
+    private final EzReader reader;
+    private String line;
+    private int position;
+
+    /**
+     * Ctor.
+     *
+     * @param reader source of records.
+     */
+    public LinesReader(EzReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (this.line == null || this.position > this.line.length()) {
+            if (!this.reader.next()) {
+                return -1;
+            }
+            this.line = this.reader.line();
+            this.position = 0;
+        }
+        int count = 0;
+        while (count < length && this.position < this.line.length()) {
+            buffer[offset + count++] = this.line.charAt(this.position++);
+        }
+        if (count < length && this.position == this.line.length()) {
+            buffer[offset + count++] = '\n';
+            this.position++;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+}
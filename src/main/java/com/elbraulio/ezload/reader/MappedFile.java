@@ -0,0 +1,288 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.line.LineTarget;
+import com.elbraulio.ezload.parse.ParseErrors;
+import com.elbraulio.ezload.parse.Parser;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads records from a memory-mapped file. Record boundaries ('\n' or
+ * "\r\n") are found directly over the mapped region, so the file is never
+ * copied to the heap before parsing: each record is handed to the parser as
+ * a window of the mapping, see {@link Parser#parse(ByteBuffer, Charset)}.
+ * Files bigger than a single mapping (2 GB) are read through consecutive
+ * mapped segments.
+ * <p>
+ * A MappedFile can also read a byte range of the file: it reads every record
+ * that starts inside the range, so consecutive ranges read each record once.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class MappedFile implements EzReader {
+    private static final int SEGMENT = 1 << 30;
+    private final FileChannel channel;
+    private final Charset charset;
+    private final int segment;
+    private final long size;
+    private final long from;
+    private final long to;
+    private final Field field;
+    private MappedByteBuffer buffer;
+    private ByteBuffer view;
+    private long base;
+    private int cursor;
+    private int start;
+    private int end;
+
+    /**
+     * Ctor.
+     *
+     * @param path file to read as UTF-8.
+     * @throws IOException when the file can not be opened.
+     */
+    public MappedFile(Path path) throws IOException {
+        this(path, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path    file to read.
+     * @param charset file charset.
+     * @throws IOException when the file can not be opened.
+     */
+    public MappedFile(Path path, Charset charset) throws IOException {
+        this(path, charset, MappedFile.SEGMENT);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path    file to read.
+     * @param charset file charset.
+     * @param segment max bytes mapped at once, a record can not be longer.
+     * @throws IOException when the file can not be opened.
+     */
+    public MappedFile(Path path, Charset charset, int segment)
+            throws IOException {
+        this(path, charset, segment, 0L, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path    file to read.
+     * @param charset file charset.
+     * @param from    first byte of the range, inclusive.
+     * @param to      last byte of the range, exclusive.
+     * @throws IOException when the file can not be opened.
+     */
+    public MappedFile(Path path, Charset charset, long from, long to)
+            throws IOException {
+        this(path, charset, MappedFile.SEGMENT, from, to);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param path    file to read.
+     * @param charset file charset.
+     * @param segment max bytes mapped at once, a record can not be longer.
+     * @param from    first byte of the range, inclusive.
+     * @param to      last byte of the range, exclusive.
+     * @throws IOException when the file can not be opened.
+     */
+    public MappedFile(
+            Path path, Charset charset, int segment, long from, long to
+    ) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.charset = charset;
+        this.segment = segment;
+        this.size = this.channel.size();
+        this.from = Math.min(from, this.size);
+        this.to = Math.min(to, this.size);
+        this.field = new Field(charset);
+    }
+
+    @Override
+    public boolean next() throws IOException {
+        if (this.buffer == null) {
+            if (this.from == 0L) {
+                this.map(0L);
+            } else {
+                // the record that holds the byte before the range belongs to
+                // the previous range
+                this.map(this.from - 1L);
+                this.record();
+            }
+        }
+        if (this.base + this.cursor >= this.to) {
+            return false;
+        }
+        this.record();
+        return true;
+    }
+
+    @Override
+    public String line() {
+        return this.field.window(
+                this.buffer, this.start, this.end - this.start
+        ).text();
+    }
+
+    @Override
+    public long bytes() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public ByteBuffer window() {
+        ((Buffer) this.view).limit(this.end);
+        ((Buffer) this.view).position(this.start);
+        return this.view;
+    }
+
+    @Override
+    public Charset charset() {
+        return this.charset;
+    }
+
+    @Override
+    public long size() {
+        return this.to - this.from;
+    }
+
+    @Override
+    public long offset() {
+        return this.base + this.cursor;
+    }
+
+    @Override
+    public Line parse(Parser parser) throws EzParseException {
+        // Buffer casts keep the Java 8 signatures when built on newer JDKs
+        ((Buffer) this.view).limit(this.end);
+        ((Buffer) this.view).position(this.start);
+        return parser.parse(this.view, this.charset);
+    }
+
+    @Override
+    public void parse(Parser parser, LineTarget target)
+            throws EzParseException {
+        ((Buffer) this.view).limit(this.end);
+        ((Buffer) this.view).position(this.start);
+        parser.parse(this.view, this.charset, target);
+    }
+
+    @Override
+    public boolean parse(Parser parser, LineTarget target, ParseErrors errors) {
+        ((Buffer) this.view).limit(this.end);
+        ((Buffer) this.view).position(this.start);
+        return parser.parse(this.view, this.charset, target, errors);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Move to the record that starts at the cursor. A new segment is mapped
+     * from the first byte of the record when it crosses the current one.
+     *
+     * @throws IOException when the file can not be mapped.
+     */
+    private void record() throws IOException {
+        int index = this.indexOf((byte) '\n', this.cursor);
+        while (index < 0 && this.base + this.buffer.limit() < this.size) {
+            if (this.cursor == 0) {
+                throw new IOException(
+                        "record at byte " + this.base + " is longer than " +
+                                this.segment + " bytes"
+                );
+            }
+            this.map(this.base + this.cursor);
+            index = this.indexOf((byte) '\n', this.cursor);
+        }
+        this.start = this.cursor;
+        if (index < 0) {
+            this.end = this.buffer.limit();
+            this.cursor = this.end;
+        } else {
+            this.end = index;
+            this.cursor = index + 1;
+        }
+        if (this.end > this.start && this.buffer.get(this.end - 1) == '\r') {
+            this.end--;
+        }
+    }
+
+    /**
+     * Map a new segment starting from the given file position.
+     *
+     * @param position file position.
+     * @throws IOException when the file can not be mapped.
+     */
+    private void map(long position) throws IOException {
+        this.buffer = this.channel.map(
+                FileChannel.MapMode.READ_ONLY, position,
+                Math.min(this.segment, this.size - position)
+        );
+        this.view = this.buffer.duplicate();
+        this.base = position;
+        this.cursor = 0;
+    }
+
+    /**
+     * Search a byte on the current segment.
+     *
+     * @param target byte to find.
+     * @param from   first index to check.
+     * @return index of the byte or -1 if it is not found.
+     */
+    private int indexOf(byte target, int from) {
+        final int limit = this.buffer.limit();
+        for (int i = from; i < limit; i++) {
+            if (this.buffer.get(i) == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import com.elbraulio.ezload.exception.EzException;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes each rejected line as a tab separated record: the line number, the
+ * raw line and its reasons separated by "; ". Backslashes, tabs and line
+ * breaks inside the fields are escaped as {@code \\}, {@code \t},
+ * {@code \n} and {@code \r}, so each record stays in one line.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class RejectWriter implements Rejects, Closeable {
+    private final Writer writer;
+
+    /**
+     * Ctor.
+     *
+     * @param path file to write as UTF-8, it is replaced if it exists.
+     * @throws IOException when the file can not be opened.
+     */
+    public RejectWriter(Path path) throws IOException {
+        this(Files.newBufferedWriter(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param writer where rejected lines are written.
+     */
+    public RejectWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void reject(long line, String raw, List<String> reasons)
+            throws EzException {
+        try {
+            this.writer.write(Long.toString(line));
+            this.writer.write('\t');
+            this.write(raw);
+            this.writer.write('\t');
+            this.write(String.join("; ", reasons));
+            this.writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            throw new EzException("IO error: " + e.toString(), e);
+        }
+    }
+
+    /**
+     * Writes a field escaping the characters that would break the record.
+     *
+     * @param field field to write.
+     * @throws IOException when the writer fails.
+     */
+    private void write(String field) throws IOException {
+        for (int i = 0; i < field.length(); i++) {
+            final char c = field.charAt(i);
+            if (c == '\\') {
+                this.writer.write("\\\\");
+            } else if (c == '\t') {
+                this.writer.write("\\t");
+            } else if (c == '\n') {
+                this.writer.write("\\n");
+            } else if (c == '\r') {
+                this.writer.write("\\r");
+            } else {
+                this.writer.write(c);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.writer.close();
+    }
+}
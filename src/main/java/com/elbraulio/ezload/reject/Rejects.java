@@ -0,0 +1,81 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.ParseErrors;
+
+import java.util.List;
+
+/**
+ * Receives the lines that a load rejects because of their format. It can be
+ * a file, see {@link RejectWriter}, or any callback.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface Rejects {
+    /**
+     * Rejects that forget every line.
+     */
+    Rejects NONE = new Rejects() {
+        @Override
+        public void reject(long line, String raw, List<String> reasons) {
+            // forgotten
+        }
+
+        @Override
+        public void reject(long line, String raw, ParseErrors errors) {
+            // forgotten, without building messages
+        }
+    };
+
+    /**
+     * Receive a rejected line.
+     *
+     * @param line    number of the line on the source, starting at 1.
+     * @param raw     raw line.
+     * @param reasons why the line was rejected.
+     * @throws EzException when the line can not be kept.
+     */
+    void reject(long line, String raw, List<String> reasons)
+            throws EzException;
+
+    /**
+     * Receive a line rejected by a parser. Messages of the errors are built
+     * here, so rejects that forget lines can skip them.
+     *
+     * @param line   number of the line on the source, starting at 1.
+     * @param raw    raw line.
+     * @param errors errors of the line, valid until the next line is
+     *               parsed.
+     * @throws EzException when the line can not be kept.
+     * @since 0.4.0
+     */
+    default void reject(long line, String raw, ParseErrors errors)
+            throws EzException {
+        this.reject(line, raw, errors.messages());
+    }
+}
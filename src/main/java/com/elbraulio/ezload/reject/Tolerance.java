@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+/**
+ * How many rejected lines a load tolerates before it stops. A load stops
+ * when it rejects more than <code>maxErrors</code> lines or, once
+ * <code>sample</code> lines were read, more than <code>maxRatio</code> of
+ * them. The sample keeps a bad line at the start of a source from stopping
+ * the load by ratio.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class Tolerance {
+    /**
+     * Tolerates no rejected line, the first one stops the load.
+     */
+    public static final Tolerance STRICT = new Tolerance(0L);
+    private final long maxErrors;
+    private final double maxRatio;
+    private final long sample;
+
+    /**
+     * Ctor.
+     *
+     * @param maxErrors max rejected lines.
+     */
+    public Tolerance(long maxErrors) {
+        this(maxErrors, 1.0);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param maxErrors max rejected lines.
+     * @param maxRatio  max ratio of rejected lines over read lines.
+     */
+    public Tolerance(long maxErrors, double maxRatio) {
+        this(maxErrors, maxRatio, 1000L);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param maxErrors max rejected lines.
+     * @param maxRatio  max ratio of rejected lines over read lines.
+     * @param sample    read lines before the ratio is checked.
+     */
+    public Tolerance(long maxErrors, double maxRatio, long sample) {
+        this.maxErrors = maxErrors;
+        this.maxRatio = maxRatio;
+        this.sample = sample;
+    }
+
+    /**
+     * Check if a load must stop.
+     *
+     * @param rejected rejected lines so far.
+     * @param read     read lines so far, rejected ones included.
+     * @return true if the load rejected too many lines.
+     */
+    public boolean exceeded(long rejected, long read) {
+        return rejected > this.maxErrors ||
+                read >= this.sample && rejected > this.maxRatio * read;
+    }
+}
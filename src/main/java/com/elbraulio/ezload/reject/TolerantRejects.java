@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.ParseErrors;
+
+import java.util.List;
+
+/**
+ * Counts the lines sent to some {@link Rejects} and stops the load as soon
+ * as they exceed a {@link Tolerance}. Lines with format errors and rows
+ * refused by the data base go through the same count. Messages of the
+ * lines rejected by a parser are built only when the origin keeps them or
+ * the load stops.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class TolerantRejects implements Rejects {
+    private final Rejects origin;
+    private final Tolerance tolerance;
+    private final long skipped;
+    private long rejected;
+
+    /**
+     * Ctor.
+     *
+     * @param origin    where rejected lines go.
+     * @param tolerance rejected lines tolerated before the load stops.
+     * @param skipped   lines of the source not read by this load, like the
+     *                  ones loaded before a restart.
+     */
+    public TolerantRejects(Rejects origin, Tolerance tolerance, long skipped) {
+        this.origin = origin;
+        this.tolerance = tolerance;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public void reject(long line, String raw, List<String> reasons)
+            throws EzException {
+        this.origin.reject(line, raw, reasons);
+        if (this.exceeded(line)) {
+            throw this.error(line, reasons);
+        }
+    }
+
+    @Override
+    public void reject(long line, String raw, ParseErrors errors)
+            throws EzException {
+        this.origin.reject(line, raw, errors);
+        if (this.exceeded(line)) {
+            throw this.error(line, errors.messages());
+        }
+    }
+
+    /**
+     * Lines rejected so far.
+     *
+     * @return rejected lines.
+     */
+    public long rejected() {
+        return this.rejected;
+    }
+
+    /**
+     * Count a rejected line and check the tolerance.
+     *
+     * @param line number of the line on the source, starting at 1.
+     * @return true if the load must stop.
+     */
+    private boolean exceeded(long line) {
+        this.rejected++;
+        return this.tolerance.exceeded(this.rejected, line - this.skipped);
+    }
+
+    /**
+     * Error that stops the load.
+     *
+     * @param line    number of the last rejected line.
+     * @param reasons why the line was rejected.
+     * @return error.
+     */
+    private EzException error(long line, List<String> reasons) {
+        final long read = line - this.skipped;
+        final StringBuilder msg = new StringBuilder("errors on row ")
+                .append(line - 1L).append(" --> ").append(reasons);
+        if (this.rejected > 1L) {
+            msg.append(", ").append(this.rejected)
+                    .append(" rejected rows of ").append(read)
+                    .append(" read");
+        }
+        return new EzException(msg.toString());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+/**
+ * Chunk size that looks for the best throughput while loading. After each
+ * complete batch it compares the rows per second with the previous batch
+ * and keeps growing or shrinking the chunk while the throughput improves,
+ * turning back with a smaller step when it does not (hill climbing). The
+ * size stays between <code>min</code> and <code>max</code> rows, and a batch
+ * is also executed when its rows reach <code>maxBytes</code>, so memory is
+ * bounded whatever the size is.
+ * <p>
+ * AdaptiveChunk keeps learning between loads and it is not thread safe.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class AdaptiveChunk implements ChunkPolicy {
+    private static final double MIN_STEP = 1.1;
+    private final int min;
+    private final int max;
+    private final long maxBytes;
+    private int size;
+    private double step;
+    private boolean growing;
+    private double rate;
+
+    /**
+     * Ctor.
+     *
+     * @param min min rows on a batch.
+     * @param max max rows on a batch.
+     */
+    public AdaptiveChunk(int min, int max) {
+        this(min, max, 64L << 20);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param min      min rows on a batch.
+     * @param max      max rows on a batch.
+     * @param maxBytes max bytes of the rows on a batch.
+     */
+    public AdaptiveChunk(int min, int max, long maxBytes) {
+        this.min = min;
+        this.max = max;
+        this.maxBytes = maxBytes;
+        this.size = min;
+        this.step = 2.0;
+        this.growing = true;
+    }
+
+    @Override
+    public boolean full(int rows, long bytes) {
+        return rows >= this.size || bytes >= this.maxBytes;
+    }
+
+    @Override
+    public void executed(int rows, long bytes, long nanos) {
+        if (rows < this.size) {
+            if (bytes >= this.maxBytes) {
+                // rows are wider than the size assumed, memory comes first
+                this.size = Math.max(this.min, rows);
+                this.growing = false;
+            }
+            // otherwise it is the last batch of a load, which is not full
+            return;
+        }
+        final double current = rows / (double) Math.max(1L, nanos);
+        if (current < this.rate) {
+            this.growing = !this.growing;
+            this.step = Math.max(AdaptiveChunk.MIN_STEP, Math.sqrt(this.step));
+        }
+        this.rate = current;
+        final double next;
+        if (this.growing) {
+            next = Math.max(this.size + 1.0, this.size * this.step);
+        } else {
+            next = Math.min(this.size - 1.0, this.size / this.step);
+        }
+        this.size = (int) Math.max(this.min, Math.min(this.max, next));
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+}
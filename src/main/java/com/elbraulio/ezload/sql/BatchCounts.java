@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+
+/**
+ * Executes the batch of a statement and counts its results. Batches are
+ * executed by {@link PreparedStatement#executeLargeBatch()} while the
+ * driver supports it, otherwise by {@link PreparedStatement#executeBatch()}.
+ * Rows reported as {@link Statement#SUCCESS_NO_INFO}, like by drivers that
+ * rewrite batches, are counted apart instead of being added as -2, and
+ * each of them is returned by {@link #execute(PreparedStatement)} as one
+ * loaded row, so that loads on those drivers do not report 0 rows.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class BatchCounts {
+    private boolean large;
+    private long affected;
+    private long unknown;
+    private long batches;
+
+    /**
+     * Ctor.
+     */
+    public BatchCounts() {
+        this.large = true;
+    }
+
+    /**
+     * Execute the batch of a statement.
+     *
+     * @param psmt prepared statement.
+     * @return rows affected by the batch, a statement without count is
+     *         one row.
+     * @throws SQLException when the batch fails.
+     */
+    public long execute(PreparedStatement psmt) throws SQLException {
+        long modified = 0L;
+        if (this.large) {
+            try {
+                for (long count : psmt.executeLargeBatch()) {
+                    modified += this.count(count);
+                }
+                this.batches++;
+                return modified;
+            } catch (SQLFeatureNotSupportedException |
+                    UnsupportedOperationException e) {
+                this.large = false;
+            }
+        }
+        for (int count : psmt.executeBatch()) {
+            modified += this.count(count);
+        }
+        this.batches++;
+        return modified;
+    }
+
+    /**
+     * Count the result of an executed statement.
+     *
+     * @param count rows affected by the statement or
+     *              {@link Statement#SUCCESS_NO_INFO}.
+     * @return rows affected, 1 if they are not known.
+     */
+    private long count(long count) {
+        if (count >= 0L) {
+            this.affected += count;
+            return count;
+        }
+        if (count == Statement.SUCCESS_NO_INFO) {
+            this.unknown++;
+            return 1L;
+        }
+        return 0L;
+    }
+
+    /**
+     * Rows affected by the executed batches.
+     *
+     * @return affected rows.
+     */
+    public long affected() {
+        return this.affected;
+    }
+
+    /**
+     * Statements executed without a count of rows, reported as
+     * {@link Statement#SUCCESS_NO_INFO}.
+     *
+     * @return statements without count.
+     */
+    public long unknown() {
+        return this.unknown;
+    }
+
+    /**
+     * Executed batches.
+     *
+     * @return batches.
+     */
+    public long batches() {
+        return this.batches;
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.line.LineTarget;
+import com.elbraulio.ezload.metrics.LoadListener;
+import com.elbraulio.ezload.parse.ParseErrors;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reject.Rejects;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Like {@link StatementBatch}, executes the batch when its
+ * {@link ChunkPolicy} says so, but isolating the rows that the data base
+ * refuses. The raw lines of the batch are kept: when the batch fails it is
+ * rolled back to a savepoint and its halves are bound again and retried,
+ * recursively, until each refused row is alone. Refused rows go to
+ * {@link Rejects} and to the {@link LoadListener} of the load, and the
+ * others are kept, so a batch with a few bad rows costs about
+ * <code>bad rows * log(batch size)</code> extra executions.
+ * <p>
+ * Only errors that {@link DataErrors} blame on the rows are bisected. A
+ * batch that fails for other reasons, like a closed connection or a
+ * missing table, stops the load at once, and so does a {@link Rejects}
+ * that refuses a row, like a
+ * {@link com.elbraulio.ezload.reject.TolerantRejects} whose tolerance is
+ * exceeded.
+ * Savepoints need a transaction: when the connection is in auto-commit
+ * mode, each batch is executed on its own transaction.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class BisectingBatch {
+    private final Connection connection;
+    private final PreparedStatement psmt;
+    private final ChunkPolicy chunks;
+    private final Parser parser;
+    private final LineTarget target;
+    private final Rejects rejects;
+    private final DataErrors refused;
+    private final LoadListener listener;
+    private final ParseErrors errors;
+    private final BatchCounts counts;
+    private final List<String> raws;
+    private long[] lines;
+    private long rejected;
+    private long bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param connection connection of the statement.
+     * @param psmt       prepared statement.
+     * @param chunks     when to execute the batch.
+     * @param parser     parser with format.
+     * @param target     binds parsed lines to the statement.
+     * @param rejects    where refused rows go.
+     * @param refused    errors caused by the rows of a batch.
+     * @param listener   listener told of each refused row.
+     */
+    public BisectingBatch(
+            Connection connection, PreparedStatement psmt, ChunkPolicy chunks,
+            Parser parser, LineTarget target, Rejects rejects,
+            DataErrors refused, LoadListener listener
+    ) {
+        this.connection = connection;
+        this.psmt = psmt;
+        this.chunks = chunks;
+        this.parser = parser;
+        this.target = target;
+        this.rejects = rejects;
+        this.refused = refused;
+        this.listener = listener;
+        this.errors = new ParseErrors();
+        this.counts = new BatchCounts();
+        this.raws = new ArrayList<>();
+        this.lines = new long[16];
+    }
+
+    /**
+     * Add a line already bound to the statement, keeping its raw line, and
+     * execute the batch when the chunk is complete.
+     *
+     * @param line number of the line on the source, starting at 1.
+     * @param raw  raw line.
+     * @param size bytes of the line.
+     * @return rows modified by the batch, 0 if it was not executed.
+     * @throws SQLException when the batch can not be executed or rolled
+     *                      back.
+     * @throws EzException  when a refused row can not be rejected.
+     */
+    public long add(long line, String raw, long size)
+            throws SQLException, EzException {
+        this.psmt.addBatch();
+        if (this.raws.size() == this.lines.length) {
+            this.lines = Arrays.copyOf(this.lines, this.lines.length * 2);
+        }
+        this.lines[this.raws.size()] = line;
+        this.raws.add(raw);
+        this.bytes += size;
+        if (this.chunks.full(this.raws.size(), this.bytes)) {
+            return this.flush();
+        }
+        return 0L;
+    }
+
+    /**
+     * Lines added to the batch and not executed yet.
+     *
+     * @return pending lines.
+     */
+    public int pending() {
+        return this.raws.size();
+    }
+
+    /**
+     * Execute the pending lines.
+     *
+     * @return rows modified by the batch, 0 if there was nothing to execute.
+     * @throws SQLException when the batch can not be executed or rolled
+     *                      back.
+     * @throws EzException  when a refused row can not be rejected.
+     */
+    public long flush() throws SQLException, EzException {
+        if (this.raws.isEmpty()) {
+            return 0L;
+        }
+        final boolean autoCommit = this.connection.getAutoCommit();
+        if (autoCommit) {
+            this.connection.setAutoCommit(false);
+        }
+        try {
+            final int rows = this.raws.size();
+            final long start = System.nanoTime();
+            final long modified = this.execute(0, rows, true);
+            this.chunks.executed(rows, this.bytes, System.nanoTime() - start);
+            if (autoCommit) {
+                this.connection.commit();
+            }
+            return modified;
+        } catch (SQLException | EzException e) {
+            if (autoCommit) {
+                this.connection.rollback();
+            }
+            throw e;
+        } finally {
+            this.raws.clear();
+            this.bytes = 0L;
+            if (autoCommit) {
+                this.connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Counts of the executed batches, failed ones excluded.
+     *
+     * @return batch counts.
+     */
+    public BatchCounts counts() {
+        return this.counts;
+    }
+
+    /**
+     * Rows refused by the data base so far.
+     *
+     * @return refused rows.
+     */
+    public long rejected() {
+        return this.rejected;
+    }
+
+    /**
+     * Execute a range of the kept lines, splitting it when it fails.
+     *
+     * @param from  first line, inclusive.
+     * @param to    last line, exclusive.
+     * @param bound true if the range is already on the batch.
+     * @return rows modified.
+     * @throws SQLException when the batch fails for other reasons than its
+     *                      rows or can not be rolled back.
+     * @throws EzException  when a refused row can not be rejected.
+     */
+    private long execute(int from, int to, boolean bound)
+            throws SQLException, EzException {
+        if (!bound) {
+            for (int i = from; i < to; i++) {
+                this.bind(i);
+            }
+        }
+        final Savepoint savepoint = this.connection.setSavepoint();
+        try {
+            final long modified = this.counts.execute(this.psmt);
+            this.connection.releaseSavepoint(savepoint);
+            return modified;
+        } catch (SQLException e) {
+            this.psmt.clearBatch();
+            if (!this.refused.refused(e)) {
+                throw e;
+            }
+            this.connection.rollback(savepoint);
+            if (to - from == 1) {
+                this.rejected++;
+                this.listener.rejected();
+                this.rejects.reject(
+                        this.lines[from], this.raws.get(from),
+                        Collections.singletonList(e.toString())
+                );
+                return 0L;
+            }
+            final int middle = (from + to) >>> 1;
+            return this.execute(from, middle, false) +
+                    this.execute(middle, to, false);
+        }
+    }
+
+    /**
+     * Bind a kept line again and add it to the batch.
+     *
+     * @param index index of the line.
+     * @throws SQLException when the line can not be added.
+     * @throws EzException  when the line can not be parsed again.
+     */
+    private void bind(int index) throws SQLException, EzException {
+        final String raw = this.raws.get(index);
+        if (!this.parser.parse(raw, this.target, this.errors)) {
+            throw new EzException(
+                    "errors on line " + this.lines[index] + " --> " +
+                            this.errors.messages().toString()
+            );
+        }
+        this.psmt.addBatch();
+    }
+}
@@ -37,4 +37,16 @@ public interface BuildSql {
      * @return sql query.
      */
     String sql();
+
+    /**
+     * Name of the table that the query loads, shown by the listeners of a
+     * load.
+     *
+     * @return table name, by default "unknown", queries built elsewhere
+     *         are not parsed to find it.
+     * @since 0.4.0
+     */
+    default String table() {
+        return "unknown";
+    }
 }
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+/**
+ * Executes the batch when the bytes of its rows reach a budget, or when it
+ * has <code>maxRows</code> rows. Bytes are approximated as fields are bound,
+ * see {@link com.elbraulio.ezload.bind.Binder#size(int)}, so the memory of a
+ * batch is bounded whether its rows are narrow or wide.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class ByteBudget implements ChunkPolicy {
+    private final long maxBytes;
+    private final int maxRows;
+
+    /**
+     * Ctor.
+     *
+     * @param maxBytes bytes of the rows on a batch.
+     */
+    public ByteBudget(long maxBytes) {
+        this(maxBytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param maxBytes bytes of the rows on a batch.
+     * @param maxRows  max rows on a batch.
+     */
+    public ByteBudget(long maxBytes, int maxRows) {
+        this.maxBytes = maxBytes;
+        this.maxRows = maxRows;
+    }
+
+    @Override
+    public boolean full(int rows, long bytes) {
+        return bytes >= this.maxBytes || rows >= this.maxRows;
+    }
+
+    @Override
+    public int size() {
+        return this.maxRows;
+    }
+}
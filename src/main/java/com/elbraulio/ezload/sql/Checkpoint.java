@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Progress of a load, saved on the same transaction than the rows it
+ * counts. A load that fails can be restarted from its last commit, see
+ * {@link TableCheckpoint}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface Checkpoint {
+    /**
+     * Checkpoint that saves nothing, loads start from the first line.
+     */
+    Checkpoint NONE = new Checkpoint() {
+        @Override
+        public long line() {
+            return 0L;
+        }
+
+        @Override
+        public void save(Connection connection, long offset, long line) {
+            // nothing to save
+        }
+    };
+
+    /**
+     * Lines of the source already loaded.
+     *
+     * @return loaded lines.
+     */
+    long line();
+
+    /**
+     * Save the progress of a load before it commits.
+     *
+     * @param connection connection of the load.
+     * @param offset     position on the source after the last committed
+     *                   line, -1 if the source does not know it.
+     * @param line       lines of the source loaded.
+     * @throws SQLException when the progress can not be saved.
+     */
+    void save(Connection connection, long offset, long line)
+            throws SQLException;
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+/**
+ * Decides when the batch of a load is executed. It is asked after each row
+ * is added to the batch and told how long each executed batch took, so it
+ * can change the size of the next ones.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface ChunkPolicy {
+    /**
+     * Approximate bytes bound on a streaming batch.
+     */
+    long STREAMING_BYTES = 8L << 20;
+    /**
+     * Max rows on a streaming batch.
+     */
+    int STREAMING_ROWS = 10_000;
+
+    /**
+     * Default policy of loads: batches are executed every
+     * {@link #STREAMING_ROWS} rows or when their values take about
+     * {@link #STREAMING_BYTES} bytes, so the memory of a load does not
+     * depend on the size of its source.
+     *
+     * @return streaming policy.
+     */
+    static ChunkPolicy streaming() {
+        return new ByteBudget(
+                ChunkPolicy.STREAMING_BYTES, ChunkPolicy.STREAMING_ROWS
+        );
+    }
+
+    /**
+     * Execute the whole source as one batch. The driver keeps every row
+     * in memory until the end of the load, use it only for small sources.
+     *
+     * @return single batch policy.
+     */
+    static ChunkPolicy single() {
+        return new FixedChunk(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Check if the batch must be executed.
+     *
+     * @param rows  rows on the batch.
+     * @param bytes bytes of the rows on the batch.
+     * @return true to execute the batch.
+     */
+    boolean full(int rows, long bytes);
+
+    /**
+     * Measure an executed batch. By default nothing is measured.
+     *
+     * @param rows  rows of the batch.
+     * @param bytes bytes of the rows of the batch.
+     * @param nanos time to execute the batch.
+     */
+    default void executed(int rows, long bytes, long nanos) {
+        // fixed policies do not measure
+    }
+
+    /**
+     * Current chunk size.
+     *
+     * @return max rows on a batch.
+     */
+    int size();
+}
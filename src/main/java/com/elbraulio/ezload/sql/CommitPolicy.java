@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+/**
+ * When a load commits. Loads leave the connection as it is by default, see
+ * {@link #autoCommit()}. The other policies turn auto-commit off for the
+ * load and commit after an executed chunk when enough chunks, rows or bytes
+ * were executed since the last commit, see {@link Transaction}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class CommitPolicy {
+    private final boolean managed;
+    private final long chunks;
+    private final long rows;
+    private final long bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param managed true if the load manages the transaction.
+     * @param chunks  chunks between commits.
+     * @param rows    rows between commits.
+     * @param bytes   bytes between commits.
+     */
+    private CommitPolicy(boolean managed, long chunks, long rows, long bytes) {
+        this.managed = managed;
+        this.chunks = chunks;
+        this.rows = rows;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Leave the connection as it is: with auto-commit on, the driver
+     * commits, otherwise the caller does.
+     *
+     * @return commit policy.
+     */
+    public static CommitPolicy autoCommit() {
+        return new CommitPolicy(false, 0L, 0L, 0L);
+    }
+
+    /**
+     * Commit once, when the whole source is loaded.
+     *
+     * @return commit policy.
+     */
+    public static CommitPolicy single() {
+        return new CommitPolicy(
+                true, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE
+        );
+    }
+
+    /**
+     * Commit every <code>chunks</code> executed chunks.
+     *
+     * @param chunks chunks between commits.
+     * @return commit policy.
+     */
+    public static CommitPolicy everyChunks(long chunks) {
+        return new CommitPolicy(true, chunks, Long.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Commit after the chunk that completes <code>rows</code> rows since
+     * the last commit.
+     *
+     * @param rows rows between commits.
+     * @return commit policy.
+     */
+    public static CommitPolicy everyRows(long rows) {
+        return new CommitPolicy(true, Long.MAX_VALUE, rows, Long.MAX_VALUE);
+    }
+
+    /**
+     * Commit after the chunk that completes <code>bytes</code> bytes of
+     * records since the last commit.
+     *
+     * @param bytes bytes between commits.
+     * @return commit policy.
+     */
+    public static CommitPolicy everyBytes(long bytes) {
+        return new CommitPolicy(true, Long.MAX_VALUE, Long.MAX_VALUE, bytes);
+    }
+
+    /**
+     * Check if the load manages the transaction.
+     *
+     * @return false if the connection is left as it is.
+     */
+    public boolean managed() {
+        return this.managed;
+    }
+
+    /**
+     * Check if a commit is due.
+     *
+     * @param chunks chunks executed since the last commit.
+     * @param rows   rows executed since the last commit.
+     * @param bytes  bytes executed since the last commit.
+     * @return true if the load must commit.
+     */
+    public boolean due(long chunks, long rows, long bytes) {
+        return this.managed && (
+                chunks >= this.chunks || rows >= this.rows ||
+                        bytes >= this.bytes
+        );
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import java.sql.SQLException;
+
+/**
+ * Tells the errors caused by the rows of a batch, like constraint
+ * violations or values out of range, from the errors of the data base
+ * itself, like a closed connection. Only the first ones are worth
+ * splitting the batch for, see {@link BisectingBatch}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+@FunctionalInterface
+public interface DataErrors {
+    /**
+     * No error comes from the rows.
+     */
+    DataErrors NONE = error -> false;
+
+    /**
+     * Errors with a SQLState of class 22 (data exception) or 23 (integrity
+     * constraint violation), on the error itself or on its chain of
+     * {@link SQLException#getNextException()}, where drivers usually put
+     * the cause of a {@link java.sql.BatchUpdateException}.
+     */
+    DataErrors STANDARD = error -> {
+        for (SQLException e = error; e != null; e = e.getNextException()) {
+            final String state = e.getSQLState();
+            if (state != null &&
+                    (state.startsWith("22") || state.startsWith("23"))) {
+                return true;
+            }
+        }
+        return false;
+    };
+
+    /**
+     * Check if an error comes from the rows of a batch.
+     *
+     * @param error error of the batch.
+     * @return true if the data base refused some rows.
+     */
+    boolean refused(SQLException error);
+}
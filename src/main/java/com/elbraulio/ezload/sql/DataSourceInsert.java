@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.EzReader;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Insert that writes through many connections at the same time. The calling
+ * thread reads and parses chunks, and each writer thread takes the next
+ * chunk, binds it on its own {@link PreparedStatement} and commits it on its
+ * own connection. The result is the sum of every writer.
+ * <p>
+ * Chunks are committed independently, so when a writer fails the chunks
+ * already committed by the others stay on the data base.
+ * <p>
+ * This class does not implement {@link Insert}: an {@link Insert} writes
+ * through the one {@link Connection} it is given, while this insert needs a
+ * connection per writer, and a JDBC connection can not be shared by
+ * threads.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class DataSourceInsert {
+    private static final List<Line> NO_LINES = new ArrayList<>(0);
+    private final Parser parser;
+    private final BuildSql buildSql;
+    private final int chunkSize;
+    private final int writers;
+
+    /**
+     * Ctor.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  sql query builder.
+     * @param chunkSize records per chunk, each chunk is a batch.
+     * @param writers   number of writer threads and connections.
+     */
+    public DataSourceInsert(
+            Parser parser, BuildSql buildSql, int chunkSize, int writers
+    ) {
+        if (writers < 1) {
+            throw new IllegalArgumentException("writers must be positive");
+        }
+        this.parser = parser;
+        this.buildSql = buildSql;
+        this.chunkSize = chunkSize;
+        this.writers = writers;
+    }
+
+    /**
+     * Executes the insert statement through connections of the
+     * <code>dataSource</code> from the records of <code>reader</code>.
+     *
+     * @param dataSource connections to data base.
+     * @param reader     source reader.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public long execute(DataSource dataSource, EzReader reader)
+            throws EzException {
+        final String sql = this.buildSql.sql();
+        final BlockingQueue<List<Line>> chunks =
+                new ArrayBlockingQueue<>(this.writers);
+        final ExecutorService pool = Executors.newFixedThreadPool(
+                this.writers
+        );
+        final List<Future<Long>> results = new ArrayList<>(this.writers);
+        long lines = 0L;
+        try {
+            for (int i = 0; i < this.writers; i++) {
+                results.add(
+                        pool.submit(() -> this.write(dataSource, sql, chunks))
+                );
+            }
+            List<Line> chunk = new ArrayList<>();
+            while (reader.next()) {
+                chunk.add(reader.parse(this.parser));
+                lines++;
+                if (chunk.size() == this.chunkSize) {
+                    DataSourceInsert.hand(chunks, chunk, results);
+                    chunk = new ArrayList<>();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                DataSourceInsert.hand(chunks, chunk, results);
+            }
+            for (int i = 0; i < this.writers; i++) {
+                DataSourceInsert.hand(
+                        chunks, DataSourceInsert.NO_LINES, results
+                );
+            }
+            long modified = 0L;
+            for (Future<Long> result : results) {
+                modified += result.get();
+            }
+            return modified;
+        } catch (IOException e) {
+            throw new EzException("IO error: " + e.toString(), e);
+        } catch (EzParseException e) {
+            throw new EzException(
+                    "errors on row " + lines + " --> " +
+                            e.errors().toString()
+            );
+        } catch (ExecutionException e) {
+            throw new EzException(
+                    (e.getCause() instanceof SQLException
+                            ? "Sql error: " : "writer error: ") +
+                            e.getCause().toString(),
+                    e
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EzException("interrupted: " + e.toString(), e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Writer thread, inserts and commits chunks until there are no more.
+     *
+     * @param dataSource connections to data base.
+     * @param sql        insert statement.
+     * @param chunks     parsed chunks.
+     * @return rows modified by this writer.
+     * @throws Exception when the data base fails.
+     */
+    private long write(
+            DataSource dataSource, String sql,
+            BlockingQueue<List<Line>> chunks
+    ) throws Exception {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement psmt = connection.prepareStatement(sql)
+        ) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            Exception failure = null;
+            try {
+                final StatementBatch batch = new StatementBatch(
+                        psmt, Integer.MAX_VALUE
+                );
+                long modified = 0L;
+                List<Line> chunk;
+                while ((chunk = chunks.take()) != DataSourceInsert.NO_LINES) {
+                    for (Line line : chunk) {
+                        batch.add(line);
+                    }
+                    modified += batch.flush();
+                    connection.commit();
+                }
+                return modified;
+            } catch (SQLException | EzException e) {
+                failure = e;
+                try {
+                    connection.rollback();
+                } catch (SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+                throw e;
+            } finally {
+                try {
+                    connection.setAutoCommit(autoCommit);
+                } catch (SQLException restore) {
+                    if (failure == null) {
+                        throw restore;
+                    }
+                    failure.addSuppressed(restore);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand a chunk to the writers, waiting while they are busy. It fails as
+     * soon as a writer fails, so it never waits for writers that are gone.
+     *
+     * @param chunks  queue to the writers.
+     * @param chunk   chunk to hand.
+     * @param results writers.
+     * @throws InterruptedException when waiting is interrupted.
+     * @throws ExecutionException   when a writer has failed.
+     */
+    private static void hand(
+            BlockingQueue<List<Line>> chunks, List<Line> chunk,
+            List<Future<Long>> results
+    ) throws InterruptedException, ExecutionException {
+        do {
+            for (Future<Long> result : results) {
+                if (result.isDone()) {
+                    result.get();
+                }
+            }
+        } while (!chunks.offer(chunk, 100L, TimeUnit.MILLISECONDS));
+    }
+}
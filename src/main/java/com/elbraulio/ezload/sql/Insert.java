@@ -25,6 +25,8 @@
 package com.elbraulio.ezload.sql;
 
 import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.reader.LinesReader;
 
 import java.io.BufferedReader;
 import java.sql.Connection;
@@ -37,12 +39,6 @@ import java.sql.Connection;
  */
 public interface Insert {
 
-    /*
-    @todo Insert method can execute large batch
-    @body it is possible to execute large batch and it returns `long[]` array.
-    @body But this does not allow to do that. It it fixed to `int[]`.
-     */
-
     /**
      * Executes the insert statement to the given <code>connection</code>
      * form the <code>bufferedReader</code>.
@@ -54,4 +50,22 @@ public interface Insert {
      */
     long execute(Connection connection, BufferedReader bufferedReader)
             throws EzException;
+
+    /**
+     * Executes the insert statement to the given <code>connection</code>
+     * form the records of <code>reader</code>. By default the records are
+     * read as lines of text, see {@link LinesReader}.
+     *
+     * @param connection connection to data base.
+     * @param reader     source reader.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     * @since 0.4.0
+     */
+    default long execute(Connection connection, EzReader reader)
+            throws EzException {
+        return this.execute(
+                connection, new BufferedReader(new LinesReader(reader))
+        );
+    }
 }
@@ -24,24 +24,48 @@
 
 package com.elbraulio.ezload.sql;
 
-import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.bind.Binders;
 import com.elbraulio.ezload.exception.EzException;
-import com.elbraulio.ezload.exception.EzParseException;
-import com.elbraulio.ezload.line.Line;
 import com.elbraulio.ezload.logger.EzLogger;
 import com.elbraulio.ezload.logger.NoLog;
+import com.elbraulio.ezload.metrics.JfrEvents;
+import com.elbraulio.ezload.metrics.Listeners;
+import com.elbraulio.ezload.metrics.LoadListener;
+import com.elbraulio.ezload.metrics.LoadProgress;
+import com.elbraulio.ezload.parse.ParseErrors;
 import com.elbraulio.ezload.parse.Parser;
-import com.elbraulio.ezload.value.Value;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+import com.elbraulio.ezload.reject.TolerantRejects;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.Arrays;
 
 /**
- * This implementation build a SQL query from a {@link Parser}.
+ * This implementation build a SQL query from a {@link Parser}. The columns
+ * of the parser are compiled once into {@link Binders}, so each field is
+ * converted and bound to the statement as soon as it is found.
+ * <p>
+ * How the source is loaded is set by {@link LoadOptions}.
+ * Lines with format errors go to {@link Rejects} and the load goes on until
+ * the {@link Tolerance} is exceeded. By default the first one stops the
+ * load. Rows refused by the data base can go to the same {@link Rejects}
+ * through a {@link BisectingBatch}, instead of failing the load, and count
+ * against the same {@link Tolerance}. Commits
+ * follow a {@link CommitPolicy}, by default the connection is left as it is.
+ * <p>
+ * A {@link LoadListener} can follow the load: it is told about each line
+ * and batch and how long reading, parsing, adding and executing took, and
+ * it can cancel the load: the load stops after the next executed batch,
+ * committing it. Besides the listeners of the {@link LoadOptions}, every
+ * load shows its progress through JMX, see {@link LoadProgress}, and its
+ * events go to Java Flight Recorder when a recording wants them, see
+ * {@link JfrEvents}.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
@@ -50,8 +74,14 @@ public final class InsertFromParser implements Insert {
 
     private final Parser parser;
     private final BuildSql buildSql;
-    private final int chunkSize;
+    private final ChunkPolicy chunks;
     private final EzLogger logger;
+    private final Rejects rejects;
+    private final Tolerance tolerance;
+    private final DataErrors refused;
+    private final CommitPolicy policy;
+    private final Checkpoint checkpoint;
+    private final LoadListener listener;
 
     /**
      * Ctor.
@@ -75,55 +105,212 @@ public final class InsertFromParser implements Insert {
     public InsertFromParser(
             Parser parser, BuildSql buildSql, int chunkSize, EzLogger logger) {
 
+        this(
+                parser, buildSql,
+                new LoadOptions().chunks(chunkSize).logger(logger)
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param parser   parser with format.
+     * @param buildSql sql builder.
+     * @param options  how to load, see {@link LoadOptions}.
+     * @since 0.4.0
+     */
+    public InsertFromParser(
+            Parser parser, BuildSql buildSql, LoadOptions options
+    ) {
         this.parser = parser;
         this.buildSql = buildSql;
-        this.chunkSize = chunkSize;
-        this.logger = logger;
+        this.chunks = options.chunks();
+        this.logger = options.logger();
+        this.rejects = options.rejects();
+        this.tolerance = options.tolerance();
+        this.refused = options.refused();
+        this.policy = options.commits();
+        this.checkpoint = options.checkpoint();
+        this.listener = options.listener();
     }
 
-    /*
-    @todo change Insert:execute buffered reader by a EzReader
-    @body giving the BufferedReader implies that it always reads by line. It
-    @body will be much better if the user can decide the way that the source
-    @body is read.
-     */
     @Override
     public long execute(Connection connection, BufferedReader bufferedReader)
             throws EzException {
-        String raw;
-        int lines = 0;
-        long modified = 0L;
+        return this.execute(connection, new BufferedLines(bufferedReader));
+    }
+
+    @Override
+    public long execute(Connection connection, EzReader reader)
+            throws EzException {
+        // rows without count were loaded too, see LoadResult.unknown()
+        final LoadResult result = this.load(connection, reader);
+        return result.loaded() + result.unknown();
+    }
+
+    /**
+     * Executes the insert statement to the given <code>connection</code>
+     * form the records of <code>reader</code>, rejecting lines with format
+     * errors.
+     *
+     * @param connection connection to data base.
+     * @param reader     source reader.
+     * @return loaded and rejected lines.
+     * @throws EzException EzLoad error or too many rejected lines.
+     * @since 0.4.0
+     */
+    public LoadResult load(Connection connection, EzReader reader)
+            throws EzException {
+        final String table = this.buildSql.table();
+        final LoadListener listener = new Listeners(
+                this.listener, JfrEvents.listener(table),
+                new LoadProgress(table, reader.size())
+        );
+        final Transaction transaction = new Transaction(
+                connection, this.policy, this.checkpoint, listener
+        );
+        boolean completed = false;
+        listener.started();
+        try {
+            transaction.begin();
+            final LoadResult result = this.load(
+                    connection, reader, transaction, listener
+            );
+            transaction.commit();
+            completed = true;
+            return result;
+        } catch (SQLException e) {
+            transaction.rollback(e);
+            throw new EzException("Sql error: " + e.toString(), e);
+        } catch (IOException e) {
+            transaction.rollback(e);
+            throw new EzException("IO error: " + e.toString(), e);
+        } catch (EzException e) {
+            transaction.rollback(e);
+            throw e;
+        } finally {
+            listener.finished(completed);
+        }
+    }
+
+    /**
+     * Load the records of <code>reader</code> inside a transaction.
+     *
+     * @param connection  connection to data base.
+     * @param reader      source reader.
+     * @param transaction transaction of the load.
+     * @param listener    listener of the load.
+     * @return loaded and rejected lines.
+     * @throws SQLException when a batch fails.
+     * @throws IOException  when the source can not be read.
+     * @throws EzException  when too many lines are rejected.
+     */
+    private LoadResult load(
+            Connection connection, EzReader reader, Transaction transaction,
+            LoadListener listener
+    ) throws SQLException, IOException, EzException {
+        long lines = this.checkpoint.line();
+        final TolerantRejects rejects = new TolerantRejects(
+                this.rejects, this.tolerance, this.checkpoint.line()
+        );
+        boolean cancelled = false;
+        // stages are timed only for timed listeners, see LoadListener.NONE
+        final boolean timed = listener.timed();
+        final ListenedChunk chunks = new ListenedChunk(this.chunks, listener);
         try (
                 PreparedStatement psmt = connection.prepareStatement(
                         this.buildSql.sql()
                 )
         ) {
-            while ((raw = bufferedReader.readLine()) != null) {
-                Line parsedLine = this.parser.parse(raw);
-                this.logger.info("line read: " + raw, "InsertFromParser");
-                int index = 1;
-                for (Value value : parsedLine.values()) {
-                    value.accept(new AddPreparedStatement(psmt, index++));
+            final StatementBatch batch = new StatementBatch(psmt, chunks);
+            final Binders binders = new Binders(this.parser.columns(), psmt);
+            BisectingBatch bisecting = null;
+            if (this.refused != DataErrors.NONE) {
+                bisecting = new BisectingBatch(
+                        connection, psmt, chunks, this.parser, binders,
+                        rejects, this.refused, listener
+                );
+            }
+            final ParseErrors errors = new ParseErrors();
+            long mark = InsertFromParser.now(timed);
+            while (reader.next()) {
+                long now = InsertFromParser.now(timed);
+                listener.read(reader.bytes(), now - mark);
+                mark = now;
+                final boolean valid = reader.parse(
+                        this.parser, binders, errors
+                );
+                now = InsertFromParser.now(timed);
+                listener.parsed(now - mark);
+                mark = now;
+                if (!valid) {
+                    listener.rejected();
+                    rejects.reject(lines + 1L, reader.line(), errors);
+                    lines++;
+                    mark = InsertFromParser.now(timed);
+                    continue;
+                }
+                if (this.logger.isInfoEnabled()) {
+                    this.logger.info(
+                            "line read: {}", reader.line(), "InsertFromParser"
+                    );
+                }
+                transaction.added(reader.bytes());
+                long executing = 0L;
+                if (timed) {
+                    executing = chunks.nanos();
+                }
+                final int pending;
+                if (bisecting == null) {
+                    batch.add(binders.bytes());
+                    pending = batch.pending();
+                } else {
+                    bisecting.add(
+                            lines + 1L, reader.line(), binders.bytes()
+                    );
+                    pending = bisecting.pending();
+                }
+                if (pending == 0) {
+                    transaction.executed(reader.offset(), lines + 1L);
+                    cancelled = listener.cancelled();
+                }
+                if (timed) {
+                    now = System.nanoTime();
+                    listener.added(
+                            now - mark - (chunks.nanos() - executing)
+                    );
+                    mark = now;
                 }
                 lines++;
-                psmt.addBatch();
-                if (lines % chunkSize == 0) {
-                    modified += Arrays.stream(psmt.executeBatch()).sum();
+                if (cancelled) {
+                    break;
                 }
             }
-            if (lines % chunkSize != 0) {
-                modified += Arrays.stream(psmt.executeBatch()).sum();
+            BatchCounts counts = batch.counts();
+            if (bisecting == null) {
+                batch.flush();
+            } else {
+                bisecting.flush();
+                counts = bisecting.counts();
             }
-            return modified;
-        } catch (SQLException e) {
-            throw new EzException("Sql error: " + e.toString(), e);
-        } catch (IOException e) {
-            throw new EzException("IO error: " + e.toString(), e);
-        } catch (EzParseException e) {
-            throw new EzException(
-                    "errors on row " + lines + " --> " +
-                            e.errors().toString()
+            transaction.executed(reader.offset(), lines);
+            return new LoadResult(
+                    counts, chunks.used(), rejects.rejected(),
+                    lines - this.checkpoint.line(), cancelled
             );
         }
     }
+
+    /**
+     * Current time for timed loads.
+     *
+     * @param timed true if the load is timed.
+     * @return nano time, 0 if the load is not timed.
+     */
+    private static long now(boolean timed) {
+        if (timed) {
+            return System.nanoTime();
+        }
+        return 0L;
+    }
 }
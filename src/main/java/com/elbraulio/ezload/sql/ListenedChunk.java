@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.metrics.LoadListener;
+
+/**
+ * Chunk policy that tells a {@link LoadListener} about each executed batch
+ * and sums their time, so the time adding rows can leave executions out.
+ * It also keeps the rows of the largest batch, the chunk size that the
+ * load really used.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+final class ListenedChunk implements ChunkPolicy {
+    private final ChunkPolicy origin;
+    private final LoadListener listener;
+    private long nanos;
+    private int largest;
+
+    /**
+     * Ctor.
+     *
+     * @param origin   chunk policy.
+     * @param listener listener of the load.
+     */
+    ListenedChunk(ChunkPolicy origin, LoadListener listener) {
+        this.origin = origin;
+        this.listener = listener;
+    }
+
+    @Override
+    public boolean full(int rows, long bytes) {
+        return this.origin.full(rows, bytes);
+    }
+
+    @Override
+    public void executed(int rows, long bytes, long nanos) {
+        this.origin.executed(rows, bytes, nanos);
+        this.listener.executed(rows, nanos);
+        this.nanos += nanos;
+        this.largest = Math.max(this.largest, rows);
+    }
+
+    @Override
+    public int size() {
+        return this.origin.size();
+    }
+
+    /**
+     * Time executing batches.
+     *
+     * @return nanos.
+     */
+    long nanos() {
+        return this.nanos;
+    }
+
+    /**
+     * Chunk size of the load: the size of the policy, but no more than the
+     * rows of the largest executed batch. Policies bounded by bytes, like
+     * {@link ByteBudget}, have no row size of their own.
+     *
+     * @return rows on a batch, 0 if no batch was executed.
+     */
+    int used() {
+        return Math.min(this.origin.size(), this.largest);
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.logger.EzLogger;
+import com.elbraulio.ezload.logger.NoLog;
+import com.elbraulio.ezload.metrics.Listeners;
+import com.elbraulio.ezload.metrics.LoadListener;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+
+/**
+ * Options of an {@link InsertFromParser}. Each option returns new options,
+ * so they compose in any order:
+ * <pre>
+ * new LoadOptions()
+ *     .chunks(new ByteBudget(8000000L))
+ *     .rejects(rejects, new Tolerance(100L))
+ *     .bisecting()
+ *     .commits(CommitPolicy.everyRows(100000L))
+ * </pre>
+ * By default the batch is streamed, see {@link ChunkPolicy#streaming()},
+ * the first wrong line stops the load, the connection commits as it is set
+ * and only the listeners that every load has follow it, see
+ * {@link InsertFromParser}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LoadOptions {
+    private final ChunkPolicy chunks;
+    private final EzLogger logger;
+    private final Rejects rejects;
+    private final Tolerance tolerance;
+    private final DataErrors refused;
+    private final CommitPolicy policy;
+    private final Checkpoint checkpoint;
+    private final LoadListener listener;
+
+    /**
+     * Ctor. Default options.
+     */
+    public LoadOptions() {
+        this(
+                ChunkPolicy.streaming(), new NoLog(), Rejects.NONE,
+                Tolerance.STRICT, DataErrors.NONE, CommitPolicy.autoCommit(),
+                Checkpoint.NONE, LoadListener.NONE
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param chunks     when to execute the batch.
+     * @param logger     logger.
+     * @param rejects    where rejected lines go.
+     * @param tolerance  rejected lines tolerated before the load stops.
+     * @param refused    errors of the rows refused by the data base,
+     *                   {@link DataErrors#NONE} to not bisect batches.
+     * @param policy     when to commit.
+     * @param checkpoint progress saved on each commit.
+     * @param listener   listener of the load events and timings.
+     */
+    private LoadOptions(
+            ChunkPolicy chunks, EzLogger logger, Rejects rejects,
+            Tolerance tolerance, DataErrors refused, CommitPolicy policy,
+            Checkpoint checkpoint, LoadListener listener
+    ) {
+        this.chunks = chunks;
+        this.logger = logger;
+        this.rejects = rejects;
+        this.tolerance = tolerance;
+        this.refused = refused;
+        this.policy = policy;
+        this.checkpoint = checkpoint;
+        this.listener = listener;
+    }
+
+    /**
+     * Execute the batch every <code>chunkSize</code> lines.
+     *
+     * @param chunkSize size to split the batch.
+     * @return new options.
+     */
+    public LoadOptions chunks(int chunkSize) {
+        return this.chunks(new FixedChunk(chunkSize));
+    }
+
+    /**
+     * Execute the batch when <code>policy</code> says so, like an
+     * {@link AdaptiveChunk} or a {@link ByteBudget}.
+     *
+     * @param policy when to execute the batch.
+     * @return new options.
+     */
+    public LoadOptions chunks(ChunkPolicy policy) {
+        return new LoadOptions(
+                policy, this.logger, this.rejects, this.tolerance,
+                this.refused, this.policy, this.checkpoint, this.listener
+        );
+    }
+
+    /**
+     * Log each loaded line.
+     *
+     * @param log logger.
+     * @return new options.
+     */
+    public LoadOptions logger(EzLogger log) {
+        return new LoadOptions(
+                this.chunks, log, this.rejects, this.tolerance, this.refused,
+                this.policy, this.checkpoint, this.listener
+        );
+    }
+
+    /**
+     * Send lines with format errors to <code>sink</code> until
+     * <code>limit</code> is exceeded.
+     *
+     * @param sink  where rejected lines go.
+     * @param limit rejected lines tolerated before the load stops.
+     * @return new options.
+     */
+    public LoadOptions rejects(Rejects sink, Tolerance limit) {
+        return new LoadOptions(
+                this.chunks, this.logger, sink, limit, this.refused,
+                this.policy, this.checkpoint, this.listener
+        );
+    }
+
+    /**
+     * Send rows refused by the data base to the rejects too, counting them
+     * against the tolerance. Failed batches are split until each refused
+     * row is found, see {@link BisectingBatch}. Only the errors of
+     * {@link DataErrors#STANDARD} are blamed on the rows, other errors stop
+     * the load.
+     *
+     * @return new options.
+     */
+    public LoadOptions bisecting() {
+        return this.bisecting(DataErrors.STANDARD);
+    }
+
+    /**
+     * Send rows refused by the data base to the rejects too, like
+     * {@link #bisecting()}, for drivers that report data errors their own
+     * way.
+     *
+     * @param errors errors caused by the rows of a batch.
+     * @return new options.
+     */
+    public LoadOptions bisecting(DataErrors errors) {
+        return new LoadOptions(
+                this.chunks, this.logger, this.rejects, this.tolerance,
+                errors, this.policy, this.checkpoint, this.listener
+        );
+    }
+
+    /**
+     * Commit as <code>commits</code> says. Auto-commit is restored when the
+     * load ends and the rows not committed yet are rolled back when it
+     * fails.
+     *
+     * @param commits when to commit.
+     * @return new options.
+     */
+    public LoadOptions commits(CommitPolicy commits) {
+        return new LoadOptions(
+                this.chunks, this.logger, this.rejects, this.tolerance,
+                this.refused, commits, this.checkpoint, this.listener
+        );
+    }
+
+    /**
+     * Save the progress on each commit, the source must be read from the
+     * last line of <code>saved</code>. Loads that leave commits to the
+     * connection commit every chunk instead, so each chunk is saved.
+     *
+     * @param saved progress saved on each commit.
+     * @return new options.
+     */
+    public LoadOptions checkpoint(Checkpoint saved) {
+        return new LoadOptions(
+                this.chunks, this.logger, this.rejects, this.tolerance,
+                this.refused, this.policy, saved, this.listener
+        );
+    }
+
+    /**
+     * Tell <code>added</code> what the load does and how long each stage
+     * takes, besides the listeners already added.
+     *
+     * @param added listener of the load events and timings.
+     * @return new options.
+     */
+    public LoadOptions listener(LoadListener added) {
+        LoadListener listeners = added;
+        if (this.listener != LoadListener.NONE) {
+            listeners = new Listeners(this.listener, added);
+        }
+        return new LoadOptions(
+                this.chunks, this.logger, this.rejects, this.tolerance,
+                this.refused, this.policy, this.checkpoint, listeners
+        );
+    }
+
+    /**
+     * When to execute the batch.
+     *
+     * @return chunk policy.
+     */
+    ChunkPolicy chunks() {
+        return this.chunks;
+    }
+
+    /**
+     * Logger of the loaded lines.
+     *
+     * @return logger.
+     */
+    EzLogger logger() {
+        return this.logger;
+    }
+
+    /**
+     * Where rejected lines go.
+     *
+     * @return rejects.
+     */
+    Rejects rejects() {
+        return this.rejects;
+    }
+
+    /**
+     * Rejected lines tolerated before the load stops.
+     *
+     * @return tolerance.
+     */
+    Tolerance tolerance() {
+        return this.tolerance;
+    }
+
+    /**
+     * Errors of the rows refused by the data base.
+     *
+     * @return data errors, {@link DataErrors#NONE} to not bisect batches.
+     */
+    DataErrors refused() {
+        return this.refused;
+    }
+
+    /**
+     * When to commit. Loads with a checkpoint that leave commits to the
+     * connection commit every chunk.
+     *
+     * @return commit policy.
+     */
+    CommitPolicy commits() {
+        if (this.checkpoint != Checkpoint.NONE && !this.policy.managed()) {
+            return CommitPolicy.everyChunks(1L);
+        }
+        return this.policy;
+    }
+
+    /**
+     * Progress saved on each commit.
+     *
+     * @return checkpoint.
+     */
+    Checkpoint checkpoint() {
+        return this.checkpoint;
+    }
+
+    /**
+     * Listener of the load events and timings.
+     *
+     * @return listener.
+     */
+    LoadListener listener() {
+        return this.listener;
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+/**
+ * What a load did with its source.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class LoadResult {
+    private final long loaded;
+    private final long unknown;
+    private final long batches;
+    private final int chunkSize;
+    private final long rejected;
+    private final long read;
+    private final boolean cancelled;
+
+    /**
+     * Ctor.
+     *
+     * @param loaded   rows added to database.
+     * @param rejected lines rejected because of their format.
+     * @param read     lines read from the source.
+     */
+    public LoadResult(long loaded, long rejected, long read) {
+        this(loaded, 0L, 0L, 0, rejected, read);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param counts    counts of the executed batches.
+     * @param chunkSize chunk size at the end of the load.
+     * @param rejected  lines rejected because of their format.
+     * @param read      lines read from the source.
+     */
+    public LoadResult(
+            BatchCounts counts, int chunkSize, long rejected, long read
+    ) {
+        this(counts, chunkSize, rejected, read, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param counts    counts of the executed batches.
+     * @param chunkSize chunk size at the end of the load.
+     * @param rejected  lines rejected because of their format.
+     * @param read      lines read from the source.
+     * @param cancelled true if the load was stopped before the end.
+     */
+    public LoadResult(
+            BatchCounts counts, int chunkSize, long rejected, long read,
+            boolean cancelled
+    ) {
+        this(
+                counts.affected(), counts.unknown(), counts.batches(),
+                chunkSize, rejected, read, cancelled
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param loaded    rows added to database.
+     * @param unknown   rows added without a count, see
+     *                  {@link java.sql.Statement#SUCCESS_NO_INFO}.
+     * @param batches   executed batches.
+     * @param chunkSize chunk size at the end of the load.
+     * @param rejected  lines rejected because of their format.
+     * @param read      lines read from the source.
+     */
+    public LoadResult(
+            long loaded, long unknown, long batches, int chunkSize,
+            long rejected, long read
+    ) {
+        this(loaded, unknown, batches, chunkSize, rejected, read, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param loaded    rows added to database.
+     * @param unknown   rows added without a count, see
+     *                  {@link java.sql.Statement#SUCCESS_NO_INFO}.
+     * @param batches   executed batches.
+     * @param chunkSize chunk size at the end of the load.
+     * @param rejected  lines rejected because of their format.
+     * @param read      lines read from the source.
+     * @param cancelled true if the load was stopped before the end.
+     */
+    public LoadResult(
+            long loaded, long unknown, long batches, int chunkSize,
+            long rejected, long read, boolean cancelled
+    ) {
+        this.loaded = loaded;
+        this.unknown = unknown;
+        this.batches = batches;
+        this.chunkSize = chunkSize;
+        this.rejected = rejected;
+        this.read = read;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Rows added to database, as reported by the batches. Rows without
+     * count are not included, see {@link #unknown()}.
+     *
+     * @return loaded rows.
+     */
+    public long loaded() {
+        return this.loaded;
+    }
+
+    /**
+     * Rows added to database without a count, because the driver reported
+     * {@link java.sql.Statement#SUCCESS_NO_INFO}.
+     *
+     * @return rows without count.
+     */
+    public long unknown() {
+        return this.unknown;
+    }
+
+    /**
+     * Executed batches.
+     *
+     * @return batches.
+     */
+    public long batches() {
+        return this.batches;
+    }
+
+    /**
+     * Chunk size at the end of the load, the one chosen by an
+     * {@link AdaptiveChunk}. It is never more than the rows of the largest
+     * executed batch, so a {@link ByteBudget} reports the rows its batches
+     * really had.
+     *
+     * @return max rows on a batch, 0 if no batch was executed.
+     */
+    public int chunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Lines rejected because of their format.
+     *
+     * @return rejected lines.
+     */
+    public long rejected() {
+        return this.rejected;
+    }
+
+    /**
+     * Lines read from the source, rejected ones included.
+     *
+     * @return read lines.
+     */
+    public long read() {
+        return this.read;
+    }
+
+    /**
+     * Check if the load was cancelled, see
+     * {@link com.elbraulio.ezload.metrics.LoadListener#cancelled()}. The
+     * rows executed before it stopped are committed.
+     *
+     * @return true if the source was not read to its end.
+     */
+    public boolean cancelled() {
+        return this.cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return "loaded: " + this.loaded + ", rejected: " + this.rejected +
+                ", read: " + this.read;
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.value.Value;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Insert that binds many lines on each statement built by
+ * {@link MultiRowSql}, so drivers that do not rewrite batches still send
+ * {@link MultiRowSql#rows()} rows per execution. Lines that do not complete
+ * the last statement are inserted with a statement of their own.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class MultiRowInsert implements Insert {
+    private final Parser parser;
+    private final MultiRowSql buildSql;
+    private final int chunkSize;
+
+    /**
+     * Ctor.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  multi row sql query builder.
+     * @param chunkSize rows to split the batch.
+     */
+    public MultiRowInsert(Parser parser, MultiRowSql buildSql, int chunkSize) {
+        this.parser = parser;
+        this.buildSql = buildSql;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public long execute(Connection connection, BufferedReader bufferedReader)
+            throws EzException {
+        return this.execute(connection, new BufferedLines(bufferedReader));
+    }
+
+    @Override
+    public long execute(Connection connection, EzReader reader)
+            throws EzException {
+        final int rows = this.buildSql.rows();
+        final int statements = Math.max(1, this.chunkSize / rows);
+        final List<Line> pending = new ArrayList<>(rows);
+        int lines = 0;
+        int batched = 0;
+        long modified = 0L;
+        final BatchCounts counts = new BatchCounts();
+        try (
+                PreparedStatement psmt = connection.prepareStatement(
+                        this.buildSql.sql(rows)
+                )
+        ) {
+            while (reader.next()) {
+                pending.add(reader.parse(this.parser));
+                lines++;
+                if (pending.size() == rows) {
+                    MultiRowInsert.bind(psmt, pending);
+                    pending.clear();
+                    psmt.addBatch();
+                    batched++;
+                    if (batched == statements) {
+                        modified += MultiRowInsert.execute(
+                                counts, psmt, rows
+                        );
+                        batched = 0;
+                    }
+                }
+            }
+            if (batched > 0) {
+                modified += MultiRowInsert.execute(counts, psmt, rows);
+            }
+            if (!pending.isEmpty()) {
+                try (
+                        PreparedStatement last = connection.prepareStatement(
+                                this.buildSql.sql(pending.size())
+                        )
+                ) {
+                    MultiRowInsert.bind(last, pending);
+                    last.addBatch();
+                    modified += MultiRowInsert.execute(
+                            counts, last, pending.size()
+                    );
+                }
+            }
+            return modified;
+        } catch (SQLException e) {
+            throw new EzException("Sql error: " + e.toString(), e);
+        } catch (IOException e) {
+            throw new EzException("IO error: " + e.toString(), e);
+        } catch (EzParseException e) {
+            throw new EzException(
+                    "errors on row " + lines + " --> " +
+                            e.errors().toString()
+            );
+        }
+    }
+
+    /**
+     * Bind lines one after the other on the same statement.
+     *
+     * @param psmt  prepared statement.
+     * @param lines lines to bind.
+     * @throws EzException when a value can not be bound.
+     */
+    private static void bind(PreparedStatement psmt, List<Line> lines)
+            throws EzException {
+        int index = 1;
+        for (Line line : lines) {
+            for (Value value : line.values()) {
+                value.accept(new AddPreparedStatement(psmt, index++));
+            }
+        }
+    }
+
+    /**
+     * Execute a batch of statements of the same number of rows.
+     *
+     * @param counts counts of the load.
+     * @param psmt   prepared statement.
+     * @param rows   rows of each statement.
+     * @return rows added by the batch, the ones of statements without count
+     *         included.
+     * @throws SQLException when the batch fails.
+     */
+    private static long execute(
+            BatchCounts counts, PreparedStatement psmt, int rows
+    ) throws SQLException {
+        final long unknown = counts.unknown();
+        final long modified = counts.execute(psmt);
+        // BatchCounts counts a statement without count as one row
+        return modified + (counts.unknown() - unknown) * (rows - 1L);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.parse.Parser;
+
+import java.util.List;
+
+/**
+ * Build a SQL query that inserts many rows per statement from
+ * {@link Parser}, like <code>INSERT INTO t (a,b) VALUES (?,?),(?,?);</code>.
+ * The number of rows is the biggest one that keeps the bind parameters
+ * under the limit of the data base, for instance 999 for SQLite before
+ * 3.32, 32766 after it or 65535 for MySQL.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class MultiRowSql implements BuildSql {
+    private static final int PARAMETERS = 999;
+    private final String name;
+    private final Parser parser;
+    private final int maxParameters;
+
+    /**
+     * Ctor. Keeps up to 999 bind parameters per statement.
+     *
+     * @param name   table name.
+     * @param parser parser with columns format.
+     */
+    public MultiRowSql(String name, Parser parser) {
+        this(name, parser, MultiRowSql.PARAMETERS);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param name          table name.
+     * @param parser        parser with columns format.
+     * @param maxParameters max bind parameters per statement.
+     */
+    public MultiRowSql(String name, Parser parser, int maxParameters) {
+        this.name = name;
+        this.parser = parser;
+        this.maxParameters = maxParameters;
+    }
+
+    /**
+     * Rows per statement.
+     *
+     * @return rows, at least 1.
+     */
+    public int rows() {
+        return Math.max(
+                1,
+                this.maxParameters / Math.max(1, this.parser.columns().size())
+        );
+    }
+
+    @Override
+    public String table() {
+        return this.name;
+    }
+
+    @Override
+    public String sql() {
+        return this.sql(this.rows());
+    }
+
+    /**
+     * Build the query for a given number of rows, like the last rows that
+     * do not complete a statement.
+     *
+     * @param rows rows to insert.
+     * @return sql query.
+     */
+    public String sql(int rows) {
+        final List<Column> columns = this.parser.columns();
+        final StringBuilder query = new StringBuilder(
+                "INSERT INTO " + this.name + " ("
+        );
+        final StringBuilder row = new StringBuilder("(");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                query.append(",");
+                row.append(",");
+            }
+            query.append(columns.get(i).name());
+            row.append("?");
+        }
+        row.append(")");
+        query.append(") VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                query.append(",");
+            }
+            query.append(row);
+        }
+        return query.append(";").toString();
+    }
+}
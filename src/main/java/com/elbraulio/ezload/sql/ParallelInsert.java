@@ -0,0 +1,357 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.reader.FileRanges;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Parses the ranges of a file on a {@link ForkJoinPool} and inserts the
+ * parsed lines from the calling thread. Each range is streamed to the
+ * insert in chunks of <code>chunkSize</code> lines through a bounded queue,
+ * so memory is bounded by the chunk size and the parallelism of the pool,
+ * not by the range size. Ranges can be inserted in file order or as soon as
+ * their chunks are parsed; in both cases errors report the line number from
+ * the beginning of the file.
+ * <p>
+ * The {@link Parser} is shared by every parsing thread. This class does not
+ * implement {@link Insert}: its source is a {@link FileRanges}, which is
+ * split by position, while an {@link Insert} reads one sequential source.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class ParallelInsert {
+    private static final int QUEUED = 2;
+    private final Parser parser;
+    private final BuildSql buildSql;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final boolean ordered;
+
+    /**
+     * Ctor. Ranges are parsed on the common pool and inserted in order.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  sql query builder.
+     * @param chunkSize size to split the batch.
+     */
+    public ParallelInsert(Parser parser, BuildSql buildSql, int chunkSize) {
+        this(parser, buildSql, chunkSize, ForkJoinPool.commonPool(), true);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  sql query builder.
+     * @param chunkSize size to split the batch.
+     * @param pool      pool to parse ranges.
+     * @param ordered   true to keep the order of the file.
+     */
+    public ParallelInsert(
+            Parser parser, BuildSql buildSql, int chunkSize,
+            ForkJoinPool pool, boolean ordered
+    ) {
+        this.parser = parser;
+        this.buildSql = buildSql;
+        this.chunkSize = chunkSize;
+        this.pool = pool;
+        this.ordered = ordered;
+    }
+
+    /**
+     * Executes the insert statement to the given <code>connection</code>
+     * from the records of every range.
+     *
+     * @param connection connection to data base.
+     * @param ranges     file ranges.
+     * @return total batch added to database.
+     * @throws EzException EzLoad error.
+     */
+    public long execute(Connection connection, FileRanges ranges)
+            throws EzException {
+        final int count = ranges.count();
+        final int ahead = Math.max(2, this.pool.getParallelism());
+        final List<Future<Void>> futures = new ArrayList<>(count);
+        final List<BlockingQueue<ParsedChunk>> queues = new ArrayList<>(count);
+        final BlockingQueue<ParsedChunk> shared = new ArrayBlockingQueue<>(
+                ahead * ParallelInsert.QUEUED
+        );
+        final AtomicBoolean stopped = new AtomicBoolean();
+        final long[] records = new long[count];
+        long modified = 0L;
+        try (
+                PreparedStatement psmt = connection.prepareStatement(
+                        this.buildSql.sql()
+                )
+        ) {
+            final StatementBatch batch = new StatementBatch(
+                    psmt, this.chunkSize
+            );
+            while (futures.size() < Math.min(ahead, count)) {
+                this.submit(ranges, futures, queues, shared, stopped);
+            }
+            int current = 0;
+            int done = 0;
+            while (done < count) {
+                final ParsedChunk chunk;
+                if (this.ordered) {
+                    chunk = queues.get(current).take();
+                } else {
+                    chunk = shared.take();
+                }
+                for (Line line : chunk.lines()) {
+                    modified += batch.add(line);
+                }
+                if (chunk.error() != null) {
+                    throw new EzException(
+                            "errors on row " +
+                                    (ParallelInsert.records(
+                                            ranges, chunk.index()
+                                    ) + records[chunk.index()] +
+                                            chunk.lines().size()) +
+                                    " --> " + chunk.error().errors()
+                    );
+                }
+                records[chunk.index()] += chunk.records();
+                if (chunk.last()) {
+                    // fails if the range could not be read
+                    futures.get(chunk.index()).get();
+                    queues.set(chunk.index(), null);
+                    done++;
+                    current++;
+                    if (futures.size() < count) {
+                        this.submit(ranges, futures, queues, shared, stopped);
+                    }
+                }
+            }
+            modified += batch.flush();
+            return modified;
+        } catch (SQLException e) {
+            throw new EzException("Sql error: " + e.toString(), e);
+        } catch (IOException e) {
+            throw new EzException("IO error: " + e.toString(), e);
+        } catch (ExecutionException e) {
+            throw new EzException("IO error: " + e.getCause().toString(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EzException("interrupted: " + e.toString(), e);
+        } finally {
+            // unblocks ranges waiting on a full queue
+            stopped.set(true);
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Submit the next range to be parsed.
+     *
+     * @param ranges  file ranges.
+     * @param futures submitted ranges.
+     * @param queues  queue of each submitted range.
+     * @param shared  queue of every range when the order is not kept.
+     * @param stopped true when the insert ended.
+     */
+    private void submit(
+            FileRanges ranges, List<Future<Void>> futures,
+            List<BlockingQueue<ParsedChunk>> queues,
+            BlockingQueue<ParsedChunk> shared, AtomicBoolean stopped
+    ) {
+        final int index = futures.size();
+        final BlockingQueue<ParsedChunk> queue;
+        if (this.ordered) {
+            queue = new ArrayBlockingQueue<>(ParallelInsert.QUEUED);
+        } else {
+            queue = shared;
+        }
+        queues.add(queue);
+        futures.add(
+                this.pool.submit(
+                        () -> this.stream(ranges, index, queue, stopped)
+                )
+        );
+    }
+
+    /**
+     * Parse the records of a range in chunks until the first error. The
+     * last chunk is always handed, even when the range can not be read.
+     *
+     * @param ranges  file ranges.
+     * @param index   range to parse.
+     * @param queue   where chunks go.
+     * @param stopped true when the insert ended.
+     * @return nothing.
+     * @throws IOException          when the range can not be read.
+     * @throws InterruptedException when waiting is interrupted.
+     */
+    private Void stream(
+            FileRanges ranges, int index, BlockingQueue<ParsedChunk> queue,
+            AtomicBoolean stopped
+    ) throws IOException, InterruptedException {
+        boolean ended = false;
+        try (EzReader reader = ranges.range(index)) {
+            List<Line> lines = new ArrayList<>(this.chunkSize);
+            EzParseException error = null;
+            while (error == null && reader.next()) {
+                try {
+                    lines.add(reader.parse(this.parser));
+                } catch (EzParseException e) {
+                    error = e;
+                }
+                if (error == null && lines.size() == this.chunkSize) {
+                    ParallelInsert.hand(
+                            queue, new ParsedChunk(
+                                    index, lines, lines.size(), null, false
+                            ),
+                            stopped
+                    );
+                    lines = new ArrayList<>(this.chunkSize);
+                }
+            }
+            ended = true;
+            ParallelInsert.hand(
+                    queue,
+                    new ParsedChunk(index, lines, lines.size(), error, true),
+                    stopped
+            );
+        } catch (IOException | RuntimeException e) {
+            if (!ended) {
+                ParallelInsert.hand(
+                        queue,
+                        new ParsedChunk(
+                                index, new ArrayList<>(0), 0L, null, true
+                        ),
+                        stopped
+                );
+            }
+            throw e;
+        }
+        return null;
+    }
+
+    /**
+     * Hand a chunk to the insert, waiting while its queue is full. The wait
+     * lets the pool add threads, so the range the insert waits for always
+     * runs.
+     *
+     * @param queue   where the chunk goes.
+     * @param chunk   parsed chunk.
+     * @param stopped true when the insert ended, the chunk is discarded.
+     * @throws InterruptedException when waiting is interrupted.
+     */
+    private static void hand(
+            BlockingQueue<ParsedChunk> queue, ParsedChunk chunk,
+            AtomicBoolean stopped
+    ) throws InterruptedException {
+        ForkJoinPool.managedBlock(new Hand(queue, chunk, stopped));
+    }
+
+    /**
+     * Number of records before a range.
+     *
+     * @param ranges file ranges.
+     * @param index  range index.
+     * @return line number of the first record of the range.
+     * @throws IOException when a range can not be read.
+     */
+    private static long records(FileRanges ranges, int index)
+            throws IOException {
+        long records = 0L;
+        for (int i = 0; i < index; i++) {
+            try (EzReader reader = ranges.range(i)) {
+                while (reader.next()) {
+                    records++;
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Puts a chunk on a queue as a blocking operation of a
+     * {@link ForkJoinPool}.
+     */
+    private static final class Hand implements ForkJoinPool.ManagedBlocker {
+        private final BlockingQueue<ParsedChunk> queue;
+        private final ParsedChunk chunk;
+        private final AtomicBoolean stopped;
+        private boolean done;
+
+        /**
+         * Ctor.
+         *
+         * @param queue   where the chunk goes.
+         * @param chunk   parsed chunk.
+         * @param stopped true when the insert ended.
+         */
+        Hand(
+                BlockingQueue<ParsedChunk> queue, ParsedChunk chunk,
+                AtomicBoolean stopped
+        ) {
+            this.queue = queue;
+            this.chunk = chunk;
+            this.stopped = stopped;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            while (!this.done && !this.stopped.get()) {
+                this.done = this.queue.offer(
+                        this.chunk, 100L, TimeUnit.MILLISECONDS
+                );
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!this.done && !this.stopped.get()) {
+                this.done = this.queue.offer(this.chunk);
+            }
+            return this.done || this.stopped.get();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+
+import java.util.List;
+
+/**
+ * Result of parsing a chunk of records, like a range of a file or a piece
+ * of it. Parsing stops at the first wrong record but the records of the
+ * chunk are still counted, so line numbers can be computed for the
+ * following chunks.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+final class ParsedChunk {
+    private final int index;
+    private final List<Line> lines;
+    private final long records;
+    private final EzParseException error;
+    private final boolean last;
+
+    /**
+     * Ctor.
+     *
+     * @param index   chunk index.
+     * @param lines   parsed lines before the first error.
+     * @param records number of records on the chunk.
+     * @param error   first parse error or null if there is none.
+     */
+    ParsedChunk(
+            int index, List<Line> lines, long records, EzParseException error
+    ) {
+        this(index, lines, records, error, true);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param index   index of the source of the chunk.
+     * @param lines   parsed lines before the first error.
+     * @param records number of records on the chunk.
+     * @param error   first parse error or null if there is none.
+     * @param last    true if no more chunks follow from the same source.
+     */
+    ParsedChunk(
+            int index, List<Line> lines, long records, EzParseException error,
+            boolean last
+    ) {
+        this.index = index;
+        this.lines = lines;
+        this.records = records;
+        this.error = error;
+        this.last = last;
+    }
+
+    /**
+     * Chunk index.
+     *
+     * @return index.
+     */
+    int index() {
+        return this.index;
+    }
+
+    /**
+     * Parsed lines, all of them if there is no error.
+     *
+     * @return lines.
+     */
+    List<Line> lines() {
+        return this.lines;
+    }
+
+    /**
+     * Number of records on the chunk.
+     *
+     * @return records.
+     */
+    long records() {
+        return this.records;
+    }
+
+    /**
+     * First parse error of the chunk, it happens on the record that follows
+     * the last parsed line.
+     *
+     * @return error or null if every record was parsed.
+     */
+    EzParseException error() {
+        return this.error;
+    }
+
+    /**
+     * Check if this is the last chunk of its source.
+     *
+     * @return true if no more chunks follow.
+     */
+    boolean last() {
+        return this.last;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reader.EzReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Insert that reads, parses and writes on different stages. A reader thread
+ * groups records in chunks, a parser thread parses them and the calling
+ * thread binds and executes the batches, so the next chunk is parsed while
+ * the database executes the current one. Stages are joined by bounded
+ * queues: a stage waits when the next one is behind, so at most
+ * <code>2 * depth + 3</code> chunks are in memory.
+ * <p>
+ * Records are handed to the parser stage as copied bytes when the source has
+ * them, like a {@link com.elbraulio.ezload.reader.MappedFile}, so they are
+ * parsed from their bytes without being decoded to text first, see
+ * {@link RecordChunk}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class PipelinedInsert implements Insert {
+    private static final RecordChunk NO_RECORDS = new RecordChunk();
+    private static final ParsedChunk NO_LINES = new ParsedChunk(
+            -1, new ArrayList<>(0), 0L, null
+    );
+    private final Parser parser;
+    private final BuildSql buildSql;
+    private final int chunkSize;
+    private final int depth;
+
+    /**
+     * Ctor. Each queue holds up to 2 chunks.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  sql query builder.
+     * @param chunkSize records per chunk and batch.
+     */
+    public PipelinedInsert(Parser parser, BuildSql buildSql, int chunkSize) {
+        this(parser, buildSql, chunkSize, 2);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param parser    parser with format.
+     * @param buildSql  sql query builder.
+     * @param chunkSize records per chunk and batch.
+     * @param depth     chunks that can wait between two stages.
+     */
+    public PipelinedInsert(
+            Parser parser, BuildSql buildSql, int chunkSize, int depth
+    ) {
+        this.parser = parser;
+        this.buildSql = buildSql;
+        this.chunkSize = chunkSize;
+        this.depth = depth;
+    }
+
+    @Override
+    public long execute(Connection connection, BufferedReader bufferedReader)
+            throws EzException {
+        return this.execute(connection, new BufferedLines(bufferedReader));
+    }
+
+    @Override
+    public long execute(Connection connection, EzReader reader)
+            throws EzException {
+        final BlockingQueue<RecordChunk> records =
+                new ArrayBlockingQueue<>(this.depth);
+        final BlockingQueue<ParsedChunk> chunks =
+                new ArrayBlockingQueue<>(this.depth);
+        final ExecutorService stages = Executors.newFixedThreadPool(2);
+        long lines = 0L;
+        long modified = 0L;
+        try (
+                PreparedStatement psmt = connection.prepareStatement(
+                        this.buildSql.sql()
+                )
+        ) {
+            final Future<Void> reading = stages.submit(
+                    () -> this.read(reader, records)
+            );
+            final Future<Void> parsing = stages.submit(
+                    () -> this.parse(records, chunks)
+            );
+            final StatementBatch batch = new StatementBatch(
+                    psmt, this.chunkSize
+            );
+            ParsedChunk chunk;
+            while ((chunk = chunks.take()) != PipelinedInsert.NO_LINES) {
+                for (Line line : chunk.lines()) {
+                    modified += batch.add(line);
+                }
+                if (chunk.error() != null) {
+                    throw new EzException(
+                            "errors on row " +
+                                    (lines + chunk.lines().size()) +
+                                    " --> " + chunk.error().errors()
+                    );
+                }
+                lines += chunk.records();
+            }
+            reading.get();
+            parsing.get();
+            modified += batch.flush();
+            return modified;
+        } catch (SQLException e) {
+            throw new EzException("Sql error: " + e.toString(), e);
+        } catch (ExecutionException e) {
+            throw new EzException(
+                    (e.getCause() instanceof IOException
+                            ? "IO error: " : "stage error: ") +
+                            e.getCause().toString(),
+                    e
+            );
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EzException("interrupted: " + e.toString(), e);
+        } finally {
+            // unblocks stages waiting on a full queue
+            stages.shutdownNow();
+        }
+    }
+
+    /**
+     * Reader stage, groups records in chunks.
+     *
+     * @param reader  source reader.
+     * @param records queue to the parser stage.
+     * @return nothing.
+     * @throws Exception when the source fails or the stage is interrupted.
+     */
+    private Void read(EzReader reader, BlockingQueue<RecordChunk> records)
+            throws Exception {
+        try {
+            RecordChunk chunk = new RecordChunk();
+            while (reader.next()) {
+                chunk.add(reader);
+                if (chunk.size() == this.chunkSize) {
+                    records.put(chunk);
+                    chunk = new RecordChunk();
+                }
+            }
+            if (chunk.size() > 0) {
+                records.put(chunk);
+            }
+        } catch (IOException | RuntimeException e) {
+            records.put(PipelinedInsert.NO_RECORDS);
+            throw e;
+        }
+        records.put(PipelinedInsert.NO_RECORDS);
+        return null;
+    }
+
+    /**
+     * Parser stage, parses chunks until the first error.
+     *
+     * @param records queue from the reader stage.
+     * @param chunks  queue to the writer stage.
+     * @return nothing.
+     * @throws InterruptedException when the stage is interrupted.
+     */
+    private Void parse(
+            BlockingQueue<RecordChunk> records,
+            BlockingQueue<ParsedChunk> chunks
+    ) throws InterruptedException {
+        try {
+            int index = 0;
+            RecordChunk chunk;
+            while ((chunk = records.take()) != PipelinedInsert.NO_RECORDS) {
+                final List<Line> lines = new ArrayList<>(chunk.size());
+                EzParseException error = null;
+                for (int i = 0; i < chunk.size(); i++) {
+                    try {
+                        lines.add(chunk.parse(i, this.parser));
+                    } catch (EzParseException e) {
+                        error = e;
+                        break;
+                    }
+                }
+                chunks.put(
+                        new ParsedChunk(index++, lines, chunk.size(), error)
+                );
+                if (error != null) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            chunks.put(PipelinedInsert.NO_LINES);
+            throw e;
+        }
+        chunks.put(PipelinedInsert.NO_LINES);
+        return null;
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.EzReader;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records copied from an {@link EzReader} to be parsed on another thread.
+ * Records of sources with a byte representation, see
+ * {@link EzReader#window()}, are copied as bytes to one buffer and parsed
+ * with {@link Parser#parse(ByteBuffer, Charset)}, so they are never
+ * decoded to text. Other records are kept as text. Buffers start small
+ * and double when they are full, so memory follows the records actually
+ * copied, not the size of the chunk.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+final class RecordChunk {
+    private static final int RECORDS = 16;
+    private static final int BYTES = 4096;
+    private static final int MAX = Integer.MAX_VALUE - 8;
+    private final List<String> texts;
+    private int[] ends;
+    private ByteBuffer bytes;
+    private Charset charset;
+    private int size;
+
+    /**
+     * Ctor.
+     */
+    RecordChunk() {
+        this.texts = new ArrayList<>(0);
+        this.ends = new int[RecordChunk.RECORDS];
+    }
+
+    /**
+     * Copy the current record of a reader.
+     *
+     * @param reader source reader on a record.
+     */
+    void add(EzReader reader) {
+        final ByteBuffer window = reader.window();
+        if (window == null) {
+            this.texts.add(reader.line());
+        } else {
+            this.charset = reader.charset();
+            this.copy(window);
+        }
+        this.size++;
+    }
+
+    /**
+     * Number of records.
+     *
+     * @return records.
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Parse a record.
+     *
+     * @param index  record index.
+     * @param parser parser with format.
+     * @return parsed line.
+     * @throws EzParseException when the record has format errors.
+     */
+    Line parse(int index, Parser parser) throws EzParseException {
+        if (this.bytes == null) {
+            return parser.parse(this.texts.get(index));
+        }
+        final ByteBuffer record = this.bytes.duplicate();
+        // Buffer casts keep the Java 8 signatures when built on newer JDKs
+        ((Buffer) record).limit(this.ends[index]);
+        if (index > 0) {
+            ((Buffer) record).position(this.ends[index - 1]);
+        } else {
+            ((Buffer) record).position(0);
+        }
+        return parser.parse(record, this.charset);
+    }
+
+    /**
+     * Append the bytes of a record, growing the buffer when it is full.
+     *
+     * @param window record bytes.
+     */
+    private void copy(ByteBuffer window) {
+        final int length = window.remaining();
+        if (this.bytes == null) {
+            this.bytes = ByteBuffer.allocate(
+                    RecordChunk.capacity(
+                            Math.max(16L * length, RecordChunk.BYTES), length
+                    )
+            );
+        }
+        if (this.bytes.remaining() < length) {
+            final ByteBuffer bigger = ByteBuffer.allocate(
+                    RecordChunk.capacity(
+                            2L * this.bytes.capacity(),
+                            (long) this.bytes.position() + length
+                    )
+            );
+            ((Buffer) this.bytes).flip();
+            bigger.put(this.bytes);
+            this.bytes = bigger;
+        }
+        this.bytes.put(window);
+        if (this.size == this.ends.length) {
+            final int[] bigger = new int[
+                    RecordChunk.capacity(2L * this.ends.length, this.size + 1L)
+            ];
+            System.arraycopy(this.ends, 0, bigger, 0, this.ends.length);
+            this.ends = bigger;
+        }
+        this.ends[this.size] = this.bytes.position();
+    }
+
+    /**
+     * Capacity of a buffer, computed on longs so it does not overflow.
+     *
+     * @param wanted capacity to allocate.
+     * @param needed capacity that the buffer must have.
+     * @return capacity, <code>wanted</code> capped to the max array size.
+     * @throws IllegalStateException when <code>needed</code> is over the
+     *                               max array size.
+     */
+    private static int capacity(long wanted, long needed) {
+        if (needed > RecordChunk.MAX) {
+            throw new IllegalStateException(
+                    "chunk of " + needed + " bytes is too big, use a " +
+                            "smaller chunk size"
+            );
+        }
+        return (int) Math.max(needed, Math.min(wanted, RecordChunk.MAX));
+    }
+}
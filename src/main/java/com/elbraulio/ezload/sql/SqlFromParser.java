@@ -67,6 +67,11 @@ public final class SqlFromParser implements BuildSql {
         this.logger = logger;
     }
 
+    @Override
+    public String table() {
+        return this.name;
+    }
+
     @Override
     public String sql() {
         // start with 'INSERT INTO {table name}'
@@ -95,9 +100,7 @@ public final class SqlFromParser implements BuildSql {
         }
         // end with ');'
         query.append(");");
-        this.logger.info(
-                "query generated: " + query.toString(), "SqlFromParser"
-        );
+        this.logger.info("query generated: {}", query, "SqlFromParser");
         return query.toString();
     }
 }
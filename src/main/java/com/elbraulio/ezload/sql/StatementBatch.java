@@ -0,0 +1,156 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.line.Line;
+import com.elbraulio.ezload.value.Value;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Adds parsed lines to the batch of a {@link PreparedStatement} and executes
+ * the batch when its {@link ChunkPolicy} says so, by default every
+ * <code>chunkSize</code> lines.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class StatementBatch {
+    private final PreparedStatement psmt;
+    private final ChunkPolicy chunks;
+    private final BatchCounts counts;
+    private int pending;
+    private long bytes;
+
+    /**
+     * Ctor.
+     *
+     * @param psmt      prepared statement.
+     * @param chunkSize size to split the batch.
+     */
+    public StatementBatch(PreparedStatement psmt, int chunkSize) {
+        this(psmt, new FixedChunk(chunkSize));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param psmt   prepared statement.
+     * @param chunks when to execute the batch.
+     */
+    public StatementBatch(PreparedStatement psmt, ChunkPolicy chunks) {
+        this.psmt = psmt;
+        this.chunks = chunks;
+        this.counts = new BatchCounts();
+    }
+
+    /**
+     * Bind a line and add it to the batch. The batch is executed when the
+     * chunk is complete.
+     *
+     * @param line parsed line.
+     * @return rows modified by the batch, 0 if it was not executed.
+     * @throws EzException  when a value can not be bound.
+     * @throws SQLException when the batch fails.
+     */
+    public long add(Line line) throws EzException, SQLException {
+        int index = 1;
+        for (Value value : line.values()) {
+            value.accept(new AddPreparedStatement(this.psmt, index++));
+        }
+        return this.add();
+    }
+
+    /**
+     * Add a line already bound to the statement, like by
+     * {@link com.elbraulio.ezload.bind.Binders}, and execute the batch when
+     * the chunk is complete.
+     *
+     * @return rows modified by the batch, 0 if it was not executed.
+     * @throws SQLException when the batch fails.
+     */
+    public long add() throws SQLException {
+        return this.add(0L);
+    }
+
+    /**
+     * Add a line already bound to the statement, counting its size for the
+     * {@link ChunkPolicy}, and execute the batch when the chunk is complete.
+     *
+     * @param size bytes of the line.
+     * @return rows modified by the batch, 0 if it was not executed.
+     * @throws SQLException when the batch fails.
+     */
+    public long add(long size) throws SQLException {
+        this.psmt.addBatch();
+        this.pending++;
+        this.bytes += size;
+        if (this.chunks.full(this.pending, this.bytes)) {
+            return this.flush();
+        }
+        return 0L;
+    }
+
+    /**
+     * Lines added to the batch and not executed yet.
+     *
+     * @return pending lines.
+     */
+    public int pending() {
+        return this.pending;
+    }
+
+    /**
+     * Execute the pending lines.
+     *
+     * @return rows modified by the batch, 0 if there was nothing to execute.
+     * @throws SQLException when the batch fails.
+     */
+    public long flush() throws SQLException {
+        if (this.pending == 0) {
+            return 0L;
+        }
+        final int rows = this.pending;
+        final long size = this.bytes;
+        this.pending = 0;
+        this.bytes = 0L;
+        final long start = System.nanoTime();
+        final long modified = this.counts.execute(this.psmt);
+        this.chunks.executed(rows, size, System.nanoTime() - start);
+        return modified;
+    }
+
+    /**
+     * Counts of the executed batches.
+     *
+     * @return batch counts.
+     */
+    public BatchCounts counts() {
+        return this.counts;
+    }
+}
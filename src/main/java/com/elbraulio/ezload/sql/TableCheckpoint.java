@@ -0,0 +1,226 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.reader.MappedFile;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Checkpoint kept on a data base table, one row per source:
+ * <code>(source, byte_offset, line_number)</code>. The source is any text
+ * that identifies it, like the path, size and modification time of a
+ * file, so a changed source starts again from the first line.
+ * <p>
+ * Call {@link #read(Connection)} before a load to know where it stopped,
+ * then {@link #open(Path, Charset)} seeks a file to that offset.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class TableCheckpoint implements Checkpoint {
+    private final String table;
+    private final String source;
+    private long offset;
+    private long line;
+
+    /**
+     * Ctor.
+     *
+     * @param source source identity.
+     */
+    public TableCheckpoint(String source) {
+        this("ezload_checkpoint", source);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param table  checkpoint table name.
+     * @param source source identity.
+     */
+    public TableCheckpoint(String table, String source) {
+        this.table = table;
+        this.source = source;
+    }
+
+    /**
+     * Create the checkpoint table if it does not exist. The table is looked
+     * up through the {@link DatabaseMetaData} of the connection, since not
+     * every data base knows <code>CREATE TABLE IF NOT EXISTS</code>.
+     *
+     * @param connection connection to data base.
+     * @throws SQLException when the table can not be created.
+     */
+    public void create(Connection connection) throws SQLException {
+        if (this.exists(connection.getMetaData())) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE " + this.table +
+                            " (source varchar(1024) PRIMARY KEY, " +
+                            "byte_offset bigint, line_number bigint);"
+            );
+        }
+    }
+
+    /**
+     * Check if the checkpoint table exists. Its name is looked up as the
+     * data base stores unquoted names, with the wildcards of search
+     * patterns escaped.
+     *
+     * @param meta data base metadata.
+     * @return true if the table exists.
+     * @throws SQLException when the metadata can not be read.
+     */
+    private boolean exists(DatabaseMetaData meta) throws SQLException {
+        String name = this.table;
+        if (meta.storesUpperCaseIdentifiers()) {
+            name = name.toUpperCase(Locale.ROOT);
+        } else if (meta.storesLowerCaseIdentifiers()) {
+            name = name.toLowerCase(Locale.ROOT);
+        }
+        final String escape = meta.getSearchStringEscape();
+        if (escape != null && !escape.isEmpty()) {
+            name = name.replace(escape, escape + escape)
+                    .replace("_", escape + "_")
+                    .replace("%", escape + "%");
+        }
+        try (ResultSet rs = meta.getTables(null, null, name, null)) {
+            return rs.next();
+        }
+    }
+
+    /**
+     * Read where the last load of the source stopped.
+     *
+     * @param connection connection to data base.
+     * @throws SQLException when the table can not be read.
+     */
+    public void read(Connection connection) throws SQLException {
+        this.offset = 0L;
+        this.line = 0L;
+        try (
+                PreparedStatement psmt = connection.prepareStatement(
+                        "SELECT byte_offset, line_number FROM " + this.table +
+                                " WHERE source = ?;"
+                )
+        ) {
+            psmt.setString(1, this.source);
+            try (ResultSet rs = psmt.executeQuery()) {
+                if (rs.next()) {
+                    this.offset = rs.getLong(1);
+                    this.line = rs.getLong(2);
+                }
+            }
+        }
+    }
+
+    /**
+     * Position on the source after the last committed line, -1 if the
+     * source did not know it.
+     *
+     * @return committed offset.
+     */
+    public long offset() {
+        return this.offset;
+    }
+
+    @Override
+    public long line() {
+        return this.line;
+    }
+
+    /**
+     * Open a file from the committed offset. Files loaded by readers that
+     * do not know their offset are opened from the start and skip the
+     * loaded lines.
+     *
+     * @param path    file to read.
+     * @param charset file charset.
+     * @return reader of the lines not loaded yet.
+     * @throws IOException when the file can not be opened.
+     */
+    public EzReader open(Path path, Charset charset) throws IOException {
+        if (this.offset >= 0L) {
+            return new MappedFile(path, charset, this.offset, Long.MAX_VALUE);
+        }
+        final EzReader reader = new MappedFile(path, charset);
+        this.skip(reader);
+        return reader;
+    }
+
+    /**
+     * Skip the loaded lines of a reader opened from the start.
+     *
+     * @param reader source reader.
+     * @throws IOException when the source can not be read.
+     */
+    public void skip(EzReader reader) throws IOException {
+        for (long i = 0L; i < this.line && reader.next(); i++) {
+            // lines are read without being parsed
+        }
+    }
+
+    @Override
+    public void save(Connection connection, long offset, long line)
+            throws SQLException {
+        try (
+                PreparedStatement update = connection.prepareStatement(
+                        "UPDATE " + this.table + " SET byte_offset = ?, " +
+                                "line_number = ? WHERE source = ?;"
+                )
+        ) {
+            update.setLong(1, offset);
+            update.setLong(2, line);
+            update.setString(3, this.source);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (
+                PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO " + this.table +
+                                " (source, byte_offset, line_number) " +
+                                "VALUES (?, ?, ?);"
+                )
+        ) {
+            insert.setString(1, this.source);
+            insert.setLong(2, offset);
+            insert.setLong(3, line);
+            insert.executeUpdate();
+        }
+    }
+}
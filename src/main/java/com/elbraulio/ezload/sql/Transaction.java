@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.metrics.LoadListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Transaction of a load, following a {@link CommitPolicy}. It turns
+ * auto-commit off when the load begins and restores it when the load ends,
+ * committing the last rows or rolling back the ones not committed yet.
+ * A {@link Checkpoint} is saved before each commit, on the same
+ * transaction, and committed rows are told to a {@link LoadListener}.
+ * Loads that leave commits to the connection tell their rows as committed
+ * only in auto-commit mode: otherwise the caller commits them, or not.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class Transaction {
+    private final Connection connection;
+    private final CommitPolicy policy;
+    private final Checkpoint checkpoint;
+    private final LoadListener listener;
+    private boolean autoCommit;
+    private long chunks;
+    private long rows;
+    private long bytes;
+    private long pendingRows;
+    private long pendingBytes;
+    private long offset;
+    private long line;
+
+    /**
+     * Ctor.
+     *
+     * @param connection connection of the load.
+     * @param policy     when to commit.
+     */
+    public Transaction(Connection connection, CommitPolicy policy) {
+        this(connection, policy, Checkpoint.NONE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param connection connection of the load.
+     * @param policy     when to commit.
+     * @param checkpoint progress saved before each commit.
+     */
+    public Transaction(
+            Connection connection, CommitPolicy policy, Checkpoint checkpoint
+    ) {
+        this(connection, policy, checkpoint, LoadListener.NONE);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param connection connection of the load.
+     * @param policy     when to commit.
+     * @param checkpoint progress saved before each commit.
+     * @param listener   listener of the committed rows.
+     */
+    public Transaction(
+            Connection connection, CommitPolicy policy, Checkpoint checkpoint,
+            LoadListener listener
+    ) {
+        this.connection = connection;
+        this.policy = policy;
+        this.checkpoint = checkpoint;
+        this.listener = listener;
+        this.line = checkpoint.line();
+        this.offset = -1L;
+    }
+
+    /**
+     * Begin the load, reading the auto-commit mode of the connection once.
+     *
+     * @throws SQLException when auto-commit can not be read or turned off.
+     */
+    public void begin() throws SQLException {
+        this.autoCommit = this.connection.getAutoCommit();
+        if (this.policy.managed() && this.autoCommit) {
+            this.connection.setAutoCommit(false);
+        }
+    }
+
+    /**
+     * Count a row added to the batch.
+     *
+     * @param size bytes of the row on the source.
+     */
+    public void added(long size) {
+        this.pendingRows++;
+        this.pendingBytes += size;
+    }
+
+    /**
+     * Count the rows added since the last executed chunk as executed, and
+     * commit if the policy says so.
+     *
+     * @param offset position on the source after the last executed line, -1
+     *               if the source does not know it.
+     * @param line   lines of the source loaded, executed or rejected.
+     * @throws SQLException when the commit fails.
+     */
+    public void executed(long offset, long line) throws SQLException {
+        this.offset = offset;
+        this.line = line;
+        this.chunks++;
+        if (!this.policy.managed() && this.autoCommit) {
+            this.listener.committed(this.pendingRows);
+        }
+        this.rows += this.pendingRows;
+        this.bytes += this.pendingBytes;
+        this.pendingRows = 0L;
+        this.pendingBytes = 0L;
+        if (this.policy.due(this.chunks, this.rows, this.bytes)) {
+            this.checkpoint.save(this.connection, this.offset, this.line);
+            this.connection.commit();
+            this.listener.committed(this.rows);
+            this.chunks = 0L;
+            this.rows = 0L;
+            this.bytes = 0L;
+        }
+    }
+
+    /**
+     * End the load, committing the last rows.
+     *
+     * @throws SQLException when the commit fails or auto-commit can not be
+     *                      restored.
+     */
+    public void commit() throws SQLException {
+        if (this.policy.managed()) {
+            this.checkpoint.save(this.connection, this.offset, this.line);
+            this.connection.commit();
+            this.listener.committed(this.rows);
+            this.rows = 0L;
+            this.restore();
+        }
+    }
+
+    /**
+     * End a failed load, rolling back the rows not committed yet. Errors of
+     * the rollback are added to the cause of the failure.
+     *
+     * @param cause why the load failed.
+     */
+    public void rollback(Exception cause) {
+        if (this.policy.managed()) {
+            try {
+                this.connection.rollback();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+            try {
+                this.restore();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Restore auto-commit if it was on.
+     *
+     * @throws SQLException when auto-commit can not be turned on.
+     */
+    private void restore() throws SQLException {
+        if (this.autoCommit) {
+            this.connection.setAutoCommit(true);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.transform;
+
+import com.elbraulio.ezload.field.Field;
+
+/**
+ * Transform a value to a primitive int, without boxing it.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public interface IntTransform {
+
+    /**
+     * Transform a value.
+     *
+     * @param value value to transform.
+     * @return transformed value.
+     */
+    int asInt(String value);
+
+    /**
+     * Transform a field. By default the field is decoded and transformed by
+     * {@link #asInt(String)}.
+     *
+     * @param field field to transform.
+     * @return transformed value.
+     */
+    default int asInt(Field field) {
+        return this.asInt(field.text());
+    }
+
+    /**
+     * Transform a field without throwing when it can not be read: the field
+     * is marked with {@link Field#invalid()} and the returned value must be
+     * ignored. By default it is transformed by {@link #asInt(Field)}, which
+     * may throw.
+     *
+     * @param field field to transform.
+     * @return transformed value.
+     */
+    default int readInt(Field field) {
+        return this.asInt(field);
+    }
+}
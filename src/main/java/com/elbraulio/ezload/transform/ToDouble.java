@@ -24,15 +24,178 @@
 
 package com.elbraulio.ezload.transform;
 
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.field.FieldTransform;
+
 /**
  * Transform input to Double.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.3.0
  */
-public final class ToDouble implements Transform<Double> {
+public final class ToDouble
+        implements Transform<Double>, FieldTransform<Double>, DoubleTransform {
+    /**
+     * Powers of ten that a double represents exactly.
+     */
+    private static final double[] POWERS = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
     @Override
     public Double from(String value) {
         return Double.parseDouble(value);
     }
+
+    @Override
+    public Double from(Field field) {
+        return this.asDouble(field);
+    }
+
+    @Override
+    public double asDouble(String value) {
+        return Double.parseDouble(value);
+    }
+
+    @Override
+    public double asDouble(Field field) {
+        final double value = this.readDouble(field);
+        if (field.isInvalid()) {
+            throw new NumberFormatException(
+                    "For input string: \"" + field.text() + "\""
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Plain decimals with up to 15 digits are read straight from bytes: the
+     * digits and the power of ten are exact doubles, so one division gives
+     * the same correctly rounded result as {@link Double#parseDouble}. Any
+     * other format (exponents, NaN, long mantissas) is decoded and delegated,
+     * unless it can not be a double at all: then the field is marked, so no
+     * exception is created for it.
+     *
+     * @param field field to transform.
+     * @return transformed value, or 0 if the field was marked.
+     */
+    @Override
+    public double readDouble(Field field) {
+        final int length = field.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0) {
+            final byte first = field.byteAt(0);
+            negative = first == '-';
+            if (negative || first == '+') {
+                index++;
+            }
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int decimals = -1;
+        for (; index < length; index++) {
+            final byte current = field.byteAt(index);
+            if (current >= '0' && current <= '9') {
+                mantissa = mantissa * 10 + (current - '0');
+                digits++;
+                if (decimals >= 0) {
+                    decimals++;
+                }
+            } else if (current == '.' && decimals < 0) {
+                decimals = 0;
+            } else {
+                break;
+            }
+        }
+        if (index < length || digits == 0 || digits > 15) {
+            if (ToDouble.wrong(field)) {
+                field.invalid();
+                return 0.0;
+            }
+            return Double.parseDouble(field.text());
+        }
+        final double value = decimals > 0
+                ? mantissa / ToDouble.POWERS[decimals]
+                : mantissa;
+        return negative ? -value : value;
+    }
+
+    /**
+     * Checks if a field can not be read by {@link Double#parseDouble} and
+     * it would fail with a "For input string" error. Fields that are empty,
+     * have blanks around, bytes out of ASCII, letters of NaN or Infinity, or
+     * that are hexadecimal doubles are left to {@link Double#parseDouble}.
+     *
+     * @param field field to check.
+     * @return true if the field is not a double.
+     */
+    private static boolean wrong(Field field) {
+        final int length = field.length();
+        if (length == 0 || field.byteAt(0) <= ' ' ||
+                field.byteAt(length - 1) <= ' ') {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final byte current = field.byteAt(i);
+            if (current <= 0 || current == 'N' || current == 'I') {
+                return false;
+            }
+        }
+        int index = 0;
+        if (field.byteAt(0) == '-' || field.byteAt(0) == '+') {
+            index++;
+        }
+        if (index + 1 < length && field.byteAt(index) == '0' &&
+                (field.byteAt(index + 1) == 'x' ||
+                        field.byteAt(index + 1) == 'X')) {
+            return false;
+        }
+        final int integers = ToDouble.digits(field, index);
+        int digits = integers - index;
+        index = integers;
+        if (index < length && field.byteAt(index) == '.') {
+            final int decimals = ToDouble.digits(field, index + 1);
+            digits += decimals - index - 1;
+            index = decimals;
+        }
+        if (digits == 0) {
+            return true;
+        }
+        if (index < length &&
+                (field.byteAt(index) == 'e' || field.byteAt(index) == 'E')) {
+            index++;
+            if (index < length &&
+                    (field.byteAt(index) == '-' ||
+                            field.byteAt(index) == '+')) {
+                index++;
+            }
+            final int exponent = ToDouble.digits(field, index);
+            if (exponent == index) {
+                return true;
+            }
+            index = exponent;
+        }
+        if (index < length && "fFdD".indexOf(field.byteAt(index)) >= 0) {
+            index++;
+        }
+        return index < length;
+    }
+
+    /**
+     * Skip the digits of a field.
+     *
+     * @param field field.
+     * @param from  first index to check.
+     * @return index of the first byte that is not a digit.
+     */
+    private static int digits(Field field, int from) {
+        int index = from;
+        while (index < field.length() && field.byteAt(index) >= '0' &&
+                field.byteAt(index) <= '9') {
+            index++;
+        }
+        return index;
+    }
 }
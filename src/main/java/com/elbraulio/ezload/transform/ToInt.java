@@ -24,15 +24,84 @@
 
 package com.elbraulio.ezload.transform;
 
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.field.FieldTransform;
+
 /**
  * Transform input to Integer.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
  */
-public final class ToInt implements Transform<Integer> {
+public final class ToInt
+        implements Transform<Integer>, FieldTransform<Integer>, IntTransform {
     @Override
     public Integer from(String value) {
         return Integer.parseInt(value);
     }
+
+    @Override
+    public Integer from(Field field) {
+        return this.asInt(field);
+    }
+
+    @Override
+    public int asInt(String value) {
+        return Integer.parseInt(value);
+    }
+
+    @Override
+    public int asInt(Field field) {
+        final int value = this.readInt(field);
+        if (field.isInvalid()) {
+            throw new NumberFormatException(
+                    "For input string: \"" + field.text() + "\""
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Read the digits straight from the field bytes. Wrong fields are
+     * marked, so no exception is created for them.
+     *
+     * @param field field to transform.
+     * @return transformed value, or 0 if the field was marked.
+     */
+    @Override
+    public int readInt(Field field) {
+        final int length = field.length();
+        if (length == 0) {
+            field.invalid();
+            return 0;
+        }
+        int index = 0;
+        final byte first = field.byteAt(0);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+            if (length == 1) {
+                field.invalid();
+                return 0;
+            }
+        }
+        // accumulates negatively to reach Integer.MIN_VALUE
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        final int multLimit = limit / 10;
+        int result = 0;
+        for (; index < length; index++) {
+            final int digit = field.byteAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multLimit) {
+                field.invalid();
+                return 0;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                field.invalid();
+                return 0;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
 }
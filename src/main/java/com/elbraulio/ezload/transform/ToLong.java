@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.transform;
+
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.field.FieldTransform;
+
+/**
+ * Transform input to Long.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+public final class ToLong
+        implements Transform<Long>, FieldTransform<Long>, LongTransform {
+    @Override
+    public Long from(String value) {
+        return Long.parseLong(value);
+    }
+
+    @Override
+    public Long from(Field field) {
+        return this.asLong(field);
+    }
+
+    @Override
+    public long asLong(String value) {
+        return Long.parseLong(value);
+    }
+
+    @Override
+    public long asLong(Field field) {
+        final long value = this.readLong(field);
+        if (field.isInvalid()) {
+            throw new NumberFormatException(
+                    "For input string: \"" + field.text() + "\""
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Read the digits straight from the field bytes. Wrong fields are
+     * marked, so no exception is created for them.
+     *
+     * @param field field to transform.
+     * @return transformed value, or 0 if the field was marked.
+     */
+    @Override
+    public long readLong(Field field) {
+        final int length = field.length();
+        if (length == 0) {
+            field.invalid();
+            return 0L;
+        }
+        int index = 0;
+        final byte first = field.byteAt(0);
+        final boolean negative = first == '-';
+        if (negative || first == '+') {
+            index++;
+            if (length == 1) {
+                field.invalid();
+                return 0L;
+            }
+        }
+        // accumulates negatively to reach Long.MIN_VALUE
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        final long multLimit = limit / 10;
+        long result = 0L;
+        for (; index < length; index++) {
+            final int digit = field.byteAt(index) - '0';
+            if (digit < 0 || digit > 9 || result < multLimit) {
+                field.invalid();
+                return 0L;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                field.invalid();
+                return 0L;
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+}
@@ -24,15 +24,24 @@
 
 package com.elbraulio.ezload.transform;
 
+import com.elbraulio.ezload.field.Field;
+import com.elbraulio.ezload.field.FieldTransform;
+
 /**
  * Represents transform input to string.
  *
  * @author Braulio Lopez (brauliop.3@gmail.com)
  * @since 0.1.0
  */
-public final class ToString implements Transform<String> {
+public final class ToString
+        implements Transform<String>, FieldTransform<String> {
     @Override
     public String from(String value) {
         return value;
     }
+
+    @Override
+    public String from(Field field) {
+        return field.text();
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Listener that emits JFR events. It is the only class that links to the
+ * JFR API, so it is compiled only by the <code>jfr</code> profile and
+ * {@link JfrEvents} creates it by reflection.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ * @since 0.4.0
+ */
+final class JfrListener implements LoadListener {
+    private final String table;
+    private final LoadEvent load;
+    private long lines;
+    private long rejected;
+    private long rows;
+    private long parseNanos;
+
+    /**
+     * Ctor.
+     *
+     * @param table table name of the load.
+     */
+    JfrListener(String table) {
+        this.table = table;
+        this.load = new LoadEvent();
+    }
+
+    /**
+     * Check if a recording wants the events of a load.
+     *
+     * @return true if load events are enabled.
+     */
+    static boolean recording() {
+        return new LoadEvent().isEnabled();
+    }
+
+    @Override
+    public void started() {
+        this.load.begin();
+    }
+
+    @Override
+    public void read(long bytes, long nanos) {
+        this.lines++;
+    }
+
+    @Override
+    public void parsed(long nanos) {
+        this.parseNanos += nanos;
+    }
+
+    @Override
+    public void rejected() {
+        this.rejected++;
+        final RejectEvent event = new RejectEvent();
+        if (event.shouldCommit()) {
+            event.table = this.table;
+            event.line = this.lines;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void executed(int rows, long nanos) {
+        this.rows += rows;
+        final ChunkEvent chunk = new ChunkEvent();
+        if (chunk.shouldCommit()) {
+            chunk.table = this.table;
+            chunk.rows = rows;
+            chunk.parse = this.parseNanos;
+            chunk.commit();
+        }
+        this.parseNanos = 0L;
+        final BatchEvent batch = new BatchEvent();
+        if (batch.shouldCommit()) {
+            batch.table = this.table;
+            batch.rows = rows;
+            batch.execute = nanos;
+            batch.commit();
+        }
+    }
+
+    @Override
+    public void finished(boolean completed) {
+        this.load.end();
+        if (this.load.shouldCommit()) {
+            this.load.table = this.table;
+            this.load.lines = this.lines;
+            this.load.rows = this.rows;
+            this.load.rejected = this.rejected;
+            this.load.completed = completed;
+            this.load.commit();
+        }
+    }
+
+    /**
+     * A whole load.
+     */
+    @Name("ezload.Load")
+    @Label("Load")
+    @Category("ezload")
+    static final class LoadEvent extends Event {
+        @Label("Table")
+        private String table;
+        @Label("Lines")
+        private long lines;
+        @Label("Rows")
+        private long rows;
+        @Label("Rejected")
+        private long rejected;
+        @Label("Completed")
+        private boolean completed;
+    }
+
+    /**
+     * Rows of an executed batch and the time parsing them.
+     */
+    @Name("ezload.Chunk")
+    @Label("Chunk")
+    @Category("ezload")
+    static final class ChunkEvent extends Event {
+        @Label("Table")
+        private String table;
+        @Label("Rows")
+        private int rows;
+        @Label("Parse")
+        @Timespan(Timespan.NANOSECONDS)
+        private long parse;
+    }
+
+    /**
+     * An executed batch.
+     */
+    @Name("ezload.Batch")
+    @Label("Batch")
+    @Category("ezload")
+    static final class BatchEvent extends Event {
+        @Label("Table")
+        private String table;
+        @Label("Rows")
+        private int rows;
+        @Label("Execute")
+        @Timespan(Timespan.NANOSECONDS)
+        private long execute;
+    }
+
+    /**
+     * A line rejected because of its format.
+     */
+    @Name("ezload.Reject")
+    @Label("Reject")
+    @Category("ezload")
+    static final class RejectEvent extends Event {
+        @Label("Table")
+        private String table;
+        @Label("Line")
+        private long line;
+    }
+}
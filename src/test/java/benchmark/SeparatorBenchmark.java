@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package benchmark;
+
+import com.elbraulio.ezload.parse.Separator;
+
+/**
+ * Compares each {@link Separator} strategy against
+ * {@link String#split(String, int)}. It is not a test, run it with
+ * <code>mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=benchmark.SeparatorBenchmark</code> or from the IDE.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public final class SeparatorBenchmark {
+    private static final int LINES = 200000;
+    private static final int ROUNDS = 10;
+
+    /**
+     * Run the benchmark.
+     *
+     * @param args not used.
+     */
+    public static void main(String[] args) {
+        SeparatorBenchmark.compare("|", "\\|");
+        SeparatorBenchmark.compare(",", ",");
+        SeparatorBenchmark.compare("::", "::");
+        SeparatorBenchmark.compare("||", "\\|\\|");
+        SeparatorBenchmark.compare("\t", "\\s");
+    }
+
+    /**
+     * Print the time per line of String.split and the chosen strategy.
+     *
+     * @param text       separator text on the lines.
+     * @param expression separator expression.
+     */
+    private static void compare(String text, String expression) {
+        final String[] lines = new String[SeparatorBenchmark.LINES];
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = String.join(
+                    text, "id" + i, "12345", "name of the item " + i,
+                    "3.1415", "2019-01-01", "some more text"
+            );
+        }
+        final Separator separator = Separator.of(expression);
+        long split = Long.MAX_VALUE;
+        long strategy = Long.MAX_VALUE;
+        int fields = 0;
+        for (int round = 0; round < SeparatorBenchmark.ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (String line : lines) {
+                fields += line.split(expression, -1).length;
+            }
+            split = Math.min(split, System.nanoTime() - start);
+            start = System.nanoTime();
+            for (String line : lines) {
+                fields += separator.split(line).length;
+            }
+            strategy = Math.min(strategy, System.nanoTime() - start);
+        }
+        System.out.printf(
+                "%-6s String.split %6.1f ns/line, %-19s %6.1f ns/line "
+                        + "(%d fields)%n",
+                expression, (double) split / lines.length,
+                separator.getClass().getSimpleName(),
+                (double) strategy / lines.length, fields
+        );
+    }
+}
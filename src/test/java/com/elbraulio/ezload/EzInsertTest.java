@@ -29,18 +29,25 @@ import com.elbraulio.ezload.column.GenericColumn;
 import com.elbraulio.ezload.constrain.NoConstrain;
 import com.elbraulio.ezload.exception.EzException;
 import com.elbraulio.ezload.parse.DefaultParser;
+import com.elbraulio.ezload.reader.MappedFile;
 import com.elbraulio.ezload.transform.ToInt;
 import com.elbraulio.ezload.transform.ToString;
 import com.elbraulio.ezload.value.IntValue;
 import com.elbraulio.ezload.value.StringValue;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import util.DropData;
 import util.SqliteConnection;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.LinkedList;
@@ -54,6 +61,9 @@ import static org.junit.Assert.fail;
  * @author Braulio Lopez (brauliop.3@gmail.com)
  */
 public class EzInsertTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void insertString() {
         try (Connection connection = new SqliteConnection().connection()) {
@@ -195,4 +205,40 @@ public class EzInsertTest {
             }
         }
     }
+
+    @Test
+    public void insertFromMappedFile() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            final List<Column> columns = new LinkedList<>();
+            columns.add(
+                    new GenericColumn<>(
+                            0, "string_val", new NoConstrain<>(),
+                            new ToString(), StringValue::new
+                    )
+            );
+            final Path path = this.folder.newFile().toPath();
+            Files.write(path, "a\nb\nc\n".getBytes(StandardCharsets.UTF_8));
+            try (MappedFile reader = new MappedFile(path)) {
+                MatcherAssert.assertThat(
+                        "values must be read from a mapped file",
+                        EzInsert.fromParser(
+                                connection, "test",
+                                new DefaultParser(",", 1, columns),
+                                reader, 2
+                        ),
+                        CoreMatchers.is(3L)
+                );
+            }
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.bind;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.transform.ToDouble;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import com.elbraulio.ezload.value.DoubleValue;
+import com.elbraulio.ezload.value.IntValue;
+import com.elbraulio.ezload.value.StringValue;
+import com.elbraulio.ezload.value.Value;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link Binders}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class BindersTest {
+    private final Parser parser = EzLoad.parse(",", 3).withCol(
+            EzCol.nullable(
+                    "null",
+                    EzCol.primitiveInt(
+                            0, "int_val", new NoConstrain<>(), new ToInt()
+                    )
+            )
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).withCol(
+            EzCol.primitiveDouble(2, "double_val", n -> n > 0, new ToDouble())
+    ).parser();
+
+    @Test
+    public void bindWhileParsing() {
+        try (
+                Connection connection = new SqliteConnection().connection();
+                PreparedStatement psmt = connection.prepareStatement(
+                        "INSERT INTO test (int_val, string_val, double_val) " +
+                                "VALUES (?, ?, ?);"
+                )
+        ) {
+            final Binders binders = new Binders(this.parser.columns(), psmt);
+            this.parser.parse("1,a,1.5", binders);
+            psmt.addBatch();
+            this.parser.parse("null,b,2.5", binders);
+            psmt.addBatch();
+            psmt.executeBatch();
+            MatcherAssert.assertThat(
+                    "every field is bound to its parameter",
+                    new ReadValue(
+                            "SELECT int_val, string_val, double_val FROM " +
+                                    "test ORDER BY rowid;",
+                            connection
+                    ).value(
+                            rs -> rs.getObject(1) + " " + rs.getString(2) +
+                                    " " + rs.getDouble(3)
+                    ).toString(),
+                    Matchers.is("[1 a 1.5, null b 2.5]")
+            );
+        } catch (SQLException | EzParseException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void rejectedFields() throws SQLException {
+        try (
+                Connection connection = new SqliteConnection().connection();
+                PreparedStatement psmt = connection.prepareStatement(
+                        "INSERT INTO test (int_val, string_val, double_val) " +
+                                "VALUES (?, ?, ?);"
+                )
+        ) {
+            this.parser.parse(
+                    "1,a,-1.5", new Binders(this.parser.columns(), psmt)
+            );
+            fail();
+        } catch (EzParseException e) {
+            MatcherAssert.assertThat(
+                    "binders check the constrains",
+                    e.errors().toString(),
+                    Matchers.is("[column 2 does not accept value '-1.5']")
+            );
+        }
+    }
+
+    @Test
+    public void sizeLoadedValues()
+            throws SQLException, EzException, EzParseException {
+        try (
+                Connection connection = new SqliteConnection().connection();
+                PreparedStatement psmt = connection.prepareStatement(
+                        "INSERT INTO test (int_val, string_val, double_val) " +
+                                "VALUES (?, ?, ?);"
+                )
+        ) {
+            final Binders binders = new Binders(this.parser.columns(), psmt);
+            this.parser.parse("1,hello,1.5", binders);
+            final long parsed = binders.bytes();
+            binders.load(
+                    () -> Arrays.asList(
+                            new IntValue(1), new StringValue("hello"),
+                            new DoubleValue(1.5)
+                    )
+            );
+            MatcherAssert.assertThat(
+                    "values are sized like their raw fields",
+                    binders.bytes(), Matchers.is(parsed)
+            );
+        }
+    }
+
+    @Test
+    public void bindNullsOfCustomColumns() {
+        final AtomicInteger nulls = new AtomicInteger();
+        final Parser custom = EzLoad.parse(",", 1).withCol(
+                EzCol.nullable("null", new Custom(nulls))
+        ).parser();
+        try (
+                Connection connection = new SqliteConnection().connection();
+                PreparedStatement psmt = connection.prepareStatement(
+                        "INSERT INTO test (string_val) VALUES (?);"
+                )
+        ) {
+            final Binders binders = new Binders(custom.columns(), psmt);
+            custom.parse("a", binders);
+            psmt.addBatch();
+            MatcherAssert.assertThat(
+                    "null value is not built before a null is found",
+                    nulls.get(),
+                    Matchers.is(0)
+            );
+            custom.parse("null", binders);
+            psmt.addBatch();
+            psmt.executeBatch();
+            MatcherAssert.assertThat(
+                    "custom columns bind nulls",
+                    new ReadValue(
+                            "SELECT string_val FROM test ORDER BY rowid;",
+                            connection
+                    ).value(rs -> rs.getString(1)).toString(),
+                    Matchers.is("[a, null]")
+            );
+        } catch (SQLException | EzParseException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Column that only implements the abstract methods and counts the null
+     * values it builds.
+     */
+    private static final class Custom implements Column<String> {
+        private final AtomicInteger nulls;
+
+        /**
+         * Ctor.
+         *
+         * @param nulls null values built.
+         */
+        Custom(AtomicInteger nulls) {
+            this.nulls = nulls;
+        }
+
+        @Override
+        public String parse(String value) {
+            return value;
+        }
+
+        @Override
+        public int position() {
+            return 0;
+        }
+
+        @Override
+        public String name() {
+            return "string_val";
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return true;
+        }
+
+        @Override
+        public Value value(String raw) {
+            return action -> action.execute(raw);
+        }
+
+        @Override
+        public Value nullValue() {
+            this.nulls.incrementAndGet();
+            return Column.NULL;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import util.SqliteConnection;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.fail;
 
@@ -127,4 +128,34 @@ public class GenericColumnTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void checkedTransformsOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        new GenericColumn<>(
+                0, "name", new NoConstrain<>(),
+                value -> {
+                    calls.incrementAndGet();
+                    return Integer.parseInt(value);
+                },
+                IntValue::new
+        ).checked("2");
+        MatcherAssert.assertThat(
+                "the transform runs once per value",
+                calls.get(),
+                CoreMatchers.is(1)
+        );
+    }
+
+    @Test
+    public void checkedRejectsValues() {
+        MatcherAssert.assertThat(
+                "constrains are checked over the parsed value",
+                new GenericColumn<>(
+                        0, "name", value -> value > 0, new ToInt(),
+                        IntValue::new
+                ).checked("-1"),
+                CoreMatchers.is(Column.REJECTED)
+        );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.column;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.action.AddPreparedStatement;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link IntColumn}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class IntColumnTest {
+
+    @Test
+    public void boxedParse() {
+        MatcherAssert.assertThat(
+                "parse keeps the boxed api",
+                new IntColumn(0, "name", new NoConstrain<>(), new ToInt())
+                        .parse("42"),
+                CoreMatchers.is(42)
+        );
+    }
+
+    @Test
+    public void checkedRejectsValues() {
+        MatcherAssert.assertThat(
+                "constrains are checked over the primitive value",
+                new IntColumn(0, "name", value -> value > 0, new ToInt())
+                        .checked("-1"),
+                CoreMatchers.is(Column.REJECTED)
+        );
+    }
+
+    @Test
+    public void bindValues() {
+        try (
+                Connection connection = new SqliteConnection().connection();
+                PreparedStatement psmt = connection.prepareStatement(
+                        "INSERT INTO test (int_val) VALUES (?);"
+                )
+        ) {
+            final Column<Integer> column = EzCol.nullable(
+                    "null",
+                    EzCol.primitiveInt(
+                            0, "int_val", new NoConstrain<>(), new ToInt()
+                    )
+            );
+            column.checked("2").accept(new AddPreparedStatement(psmt, 1));
+            psmt.addBatch();
+            column.checked("null").accept(new AddPreparedStatement(psmt, 1));
+            psmt.addBatch();
+            psmt.executeBatch();
+            MatcherAssert.assertThat(
+                    "primitive and null values are bound",
+                    new ReadValue(
+                            "SELECT int_val FROM test ORDER BY rowid;",
+                            connection
+                    ).value((rs) -> rs.getObject(1)).toString(),
+                    CoreMatchers.is("[2, null]")
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
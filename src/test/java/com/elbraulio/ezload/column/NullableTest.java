@@ -25,13 +25,21 @@
 package com.elbraulio.ezload.column;
 
 import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.action.Action;
 import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.parse.Parser;
 import com.elbraulio.ezload.transform.ToInt;
-
+import com.elbraulio.ezload.value.Value;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Unit test for {@link Nullable}
  * 
@@ -77,4 +85,82 @@ public class NullableTest {
                 ).parse("null"),
                 Matchers.nullValue());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parseNullValues() throws EzParseException {
+        final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.nullable(
+                "null",
+                EzCol.integer(0, "c1", new NoConstrain<>(), new ToInt())
+            )
+        ).parser();
+        MatcherAssert.assertThat(
+            "null values are parsed in a line",
+            parser.parse("null,x").values().size(),
+            Matchers.is(1)
+        );
+    }
+
+    @Test
+    public void customColumnsBindUntypedNulls() throws EzException {
+        final List<String> calls = new ArrayList<>();
+        new Nullable<>("null", new Custom()).checked("null").accept(
+            new Action() {
+                @Override
+                public void execute(Integer value) {
+                    calls.add("integer");
+                }
+
+                @Override
+                public void execute(Double value) {
+                    calls.add("double");
+                }
+
+                @Override
+                public void execute(String value) {
+                    calls.add("string");
+                }
+
+                @Override
+                public void executeNull() {
+                    calls.add("null");
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "custom columns do not need a typed null",
+            calls,
+            Matchers.contains("null")
+        );
+    }
+
+    /**
+     * Column that only implements the abstract methods.
+     */
+    private static final class Custom implements Column<String> {
+        @Override
+        public String parse(String value) {
+            return value;
+        }
+
+        @Override
+        public int position() {
+            return 0;
+        }
+
+        @Override
+        public String name() {
+            return "custom";
+        }
+
+        @Override
+        public boolean isValid(String value) {
+            return true;
+        }
+
+        @Override
+        public Value value(String raw) {
+            return action -> action.execute(raw);
+        }
+    }
+}
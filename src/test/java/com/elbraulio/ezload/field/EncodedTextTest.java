@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.field;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit test for {@link EncodedText}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class EncodedTextTest {
+    @Test
+    public void encodeOncePerCharset() {
+        final EncodedText text = new EncodedText("null");
+        MatcherAssert.assertThat(
+                "the bytes of the last charset are reused",
+                text.bytes(StandardCharsets.UTF_16LE),
+                Matchers.sameInstance(text.bytes(StandardCharsets.UTF_16LE))
+        );
+    }
+
+    @Test
+    public void encodeOtherCharsets() {
+        final EncodedText text = new EncodedText("null");
+        text.bytes(StandardCharsets.UTF_16LE);
+        MatcherAssert.assertThat(
+                "a new charset encodes the text again",
+                text.bytes(StandardCharsets.UTF_16BE),
+                Matchers.is("null".getBytes(StandardCharsets.UTF_16BE))
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.field;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit test for {@link Field}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class FieldTest {
+    private final ByteBuffer record = ByteBuffer.wrap(
+            "año,42".getBytes(StandardCharsets.UTF_8)
+    );
+
+    @Test
+    public void decodeWindow() {
+        MatcherAssert.assertThat(
+                "only the window is decoded",
+                new Field(StandardCharsets.UTF_8).window(this.record, 0, 4)
+                        .text(),
+                Matchers.is("año")
+        );
+    }
+
+    @Test
+    public void matchBytes() {
+        MatcherAssert.assertThat(
+                "compare bytes without decoding",
+                new Field(StandardCharsets.UTF_8).window(this.record, 5, 2)
+                        .matches("42".getBytes(StandardCharsets.UTF_8)),
+                Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.line;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.action.Action;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.MappedFile;
+import com.elbraulio.ezload.transform.ToDouble;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToLong;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Unit test for {@link LineBuffer}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class LineBufferTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private final Parser parser = EzLoad.parse(",", 3).withCol(
+            EzCol.primitiveInt(0, "a", new NoConstrain<>(), new ToInt())
+    ).withCol(
+            EzCol.primitiveLong(1, "b", new NoConstrain<>(), new ToLong())
+    ).withCol(
+            EzCol.primitiveDouble(2, "c", new NoConstrain<>(), new ToDouble())
+    ).parser();
+
+    @Test
+    public void fillInPlace() throws EzParseException, EzException {
+        final LineBuffer buffer = new LineBuffer(1);
+        final StringBuilder values = new StringBuilder();
+        this.parser.parse("1,2,3.5", buffer);
+        buffer.accept(LineBufferTest.collect(values));
+        this.parser.parse("4,5,6.5", buffer);
+        buffer.accept(LineBufferTest.collect(values));
+        MatcherAssert.assertThat(
+                "the same buffer holds each line",
+                values.toString(),
+                Matchers.is("1,2,3.5,4,5,6.5,")
+        );
+    }
+
+    @Test
+    public void noAllocationPerRecord()
+            throws IOException, EzParseException, EzException {
+        final java.lang.management.ThreadMXBean threads =
+                ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(
+                threads instanceof com.sun.management.ThreadMXBean
+        );
+        final com.sun.management.ThreadMXBean counter =
+                (com.sun.management.ThreadMXBean) threads;
+        Assume.assumeTrue(counter.isThreadAllocatedMemoryEnabled());
+        final int records = 200000;
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < records; i++) {
+            content.append(i).append(',').append(i * 3L).append(',')
+                    .append(i).append(".25\n");
+        }
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+        final Action[] actions = new Action[3];
+        final long[] sum = new long[1];
+        final Action add = new Action() {
+            @Override
+            public void execute(Integer value) {
+                sum[0] += value;
+            }
+
+            @Override
+            public void execute(Double value) {
+                sum[0] += value.longValue();
+            }
+
+            @Override
+            public void execute(String value) {
+                sum[0] += value.length();
+            }
+
+            @Override
+            public void execute(int value) {
+                sum[0] += value;
+            }
+
+            @Override
+            public void execute(long value) {
+                sum[0] += value;
+            }
+
+            @Override
+            public void execute(double value) {
+                sum[0] += (long) value;
+            }
+        };
+        actions[0] = add;
+        actions[1] = add;
+        actions[2] = add;
+        final LineBuffer buffer = new LineBuffer(3);
+        try (MappedFile reader = new MappedFile(file)) {
+            // the first half warms the buffer up
+            for (int i = 0; i < records / 2; i++) {
+                reader.next();
+                reader.parse(this.parser, buffer);
+                buffer.accept(actions);
+            }
+            final long thread = Thread.currentThread().getId();
+            final long before = counter.getThreadAllocatedBytes(thread);
+            while (reader.next()) {
+                reader.parse(this.parser, buffer);
+                buffer.accept(actions);
+            }
+            final long allocated = counter.getThreadAllocatedBytes(thread) -
+                    before;
+            MatcherAssert.assertThat(
+                    "allocated memory does not grow with the records",
+                    allocated,
+                    Matchers.lessThan(records / 2 * 2L)
+            );
+        }
+        MatcherAssert.assertThat(
+                "every value is read",
+                sum[0] > 0,
+                Matchers.is(true)
+        );
+    }
+
+    /**
+     * Action that appends every value.
+     *
+     * @param values appended values.
+     * @return action.
+     */
+    private static Action[] collect(StringBuilder values) {
+        final Action append = new Action() {
+            @Override
+            public void execute(Integer value) {
+                values.append(value).append(',');
+            }
+
+            @Override
+            public void execute(Double value) {
+                values.append(value).append(',');
+            }
+
+            @Override
+            public void execute(String value) {
+                values.append(value).append(',');
+            }
+
+            @Override
+            public void execute(Long value) {
+                values.append(value).append(',');
+            }
+        };
+        return new Action[]{append, append, append};
+    }
+}
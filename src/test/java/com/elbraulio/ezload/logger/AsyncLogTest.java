@@ -0,0 +1,215 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.logger;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Unit test for {@link AsyncLog}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class AsyncLogTest {
+    @Test
+    public void writeInOrder() {
+        final Recorded recorded = new Recorded(new CountDownLatch(0));
+        final AsyncLog log = new AsyncLog(recorded);
+        log.info("first", "test");
+        log.warning("line {}", 2, "test");
+        log.error("third", "test");
+        log.close();
+        MatcherAssert.assertThat(
+                "messages are written in order",
+                recorded.messages(),
+                Matchers.contains("info first", "warning line 2", "error third")
+        );
+    }
+
+    @Test
+    public void dropWhenFull() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Recorded recorded = new Recorded(release);
+        final AsyncLog log = new AsyncLog(recorded, 2, Overflow.DROP, 1);
+        log.info("taken", "test");
+        recorded.started.await();
+        for (int i = 0; i < 5; i++) {
+            log.info("line {}", i, "test");
+        }
+        release.countDown();
+        log.close();
+        MatcherAssert.assertThat(
+                "messages over capacity are dropped",
+                log.dropped(), Matchers.is(3L)
+        );
+        MatcherAssert.assertThat(
+                "messages under capacity are written",
+                recorded.messages(),
+                Matchers.contains("info taken", "info line 0", "info line 1")
+        );
+    }
+
+    @Test
+    public void blockWhenFull() {
+        final Recorded recorded = new Recorded(new CountDownLatch(0));
+        final AsyncLog log = new AsyncLog(recorded, 2, Overflow.BLOCK, 1);
+        for (int i = 0; i < 100; i++) {
+            log.info("line {}", i, "test");
+        }
+        log.close();
+        MatcherAssert.assertThat(
+                "no message is dropped",
+                log.dropped(), Matchers.is(0L)
+        );
+        MatcherAssert.assertThat(
+                "every message is written",
+                recorded.messages().size(), Matchers.is(100)
+        );
+    }
+
+    @Test
+    public void sampleInfo() {
+        final Recorded recorded = new Recorded(new CountDownLatch(0));
+        final AsyncLog log = new AsyncLog(recorded, 16, Overflow.BLOCK, 3);
+        for (int i = 0; i < 7; i++) {
+            log.info("line {}", i, "test");
+        }
+        log.warning("warning", "test");
+        log.close();
+        MatcherAssert.assertThat(
+                "one of every three info messages is written",
+                recorded.messages(),
+                Matchers.contains(
+                        "info line 0", "info line 3", "info line 6",
+                        "warning warning"
+                )
+        );
+    }
+
+    @Test
+    public void skipDisabledLevels() {
+        final AsyncLog log = new AsyncLog(new NoLog());
+        log.info(
+                () -> {
+                    throw new IllegalStateException("message was built");
+                },
+                "test"
+        );
+        log.close();
+        MatcherAssert.assertThat(
+                "levels come from the origin logger",
+                log.isInfoEnabled(), Matchers.is(false)
+        );
+    }
+
+    @Test
+    public void writeAfterClose() {
+        final Recorded recorded = new Recorded(new CountDownLatch(0));
+        final AsyncLog log = new AsyncLog(recorded);
+        log.close();
+        log.info("late", "test");
+        MatcherAssert.assertThat(
+                "closed loggers write right away",
+                recorded.messages(), Matchers.contains("info late")
+        );
+    }
+
+    @Test
+    public void keepMessagesPutWhileClosing() throws InterruptedException {
+        final Recorded recorded = new Recorded(new CountDownLatch(0));
+        final AsyncLog log = new AsyncLog(recorded, 64, Overflow.BLOCK, 1);
+        final CountDownLatch running = new CountDownLatch(4);
+        final List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final Thread thread = new Thread(
+                    () -> {
+                        running.countDown();
+                        for (int i = 0; i < 2000; i++) {
+                            log.info("line {}", i, "test");
+                        }
+                    }
+            );
+            thread.start();
+            threads.add(thread);
+        }
+        running.await();
+        log.close();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        MatcherAssert.assertThat(
+                "messages put while closing are written",
+                recorded.messages().size(), Matchers.is(8000)
+        );
+    }
+
+    /**
+     * Logger that keeps its messages. The first one waits for a latch.
+     */
+    private static final class Recorded implements EzLogger {
+        private final List<String> messages =
+                Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        Recorded(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void info(String msg, String clazz) {
+            this.add("info " + msg);
+        }
+
+        @Override
+        public void warning(String msg, String clazz) {
+            this.add("warning " + msg);
+        }
+
+        @Override
+        public void error(String msg, String clazz) {
+            this.add("error " + msg);
+        }
+
+        List<String> messages() {
+            return new ArrayList<>(this.messages);
+        }
+
+        private void add(String msg) {
+            this.messages.add(msg);
+            this.started.countDown();
+            try {
+                this.release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
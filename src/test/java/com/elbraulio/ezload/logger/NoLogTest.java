@@ -81,4 +81,18 @@ public class NoLogTest {
                 baos.toString(), CoreMatchers.is("")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void noLazyMessages() {
+        new NoLog().info(
+                () -> {
+                    throw new IllegalStateException("message was built");
+                },
+                "test"
+        );
+        MatcherAssert.assertThat(
+                "disabled levels are reported",
+                new NoLog().isInfoEnabled(), CoreMatchers.is(false)
+        );
+    }
+}
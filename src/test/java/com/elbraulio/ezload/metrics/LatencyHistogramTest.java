@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link LatencyHistogram}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class LatencyHistogramTest {
+    @Test
+    public void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000L);
+        }
+        histogram.record(1_000_000L);
+        MatcherAssert.assertThat(
+                "median is within its bucket",
+                histogram.percentile(0.5),
+                Matchers.allOf(
+                        Matchers.greaterThanOrEqualTo(1_000L),
+                        Matchers.lessThan(1_250L)
+                )
+        );
+        MatcherAssert.assertThat(
+                "max is within its bucket",
+                histogram.percentile(1.0),
+                Matchers.allOf(
+                        Matchers.greaterThanOrEqualTo(1_000_000L),
+                        Matchers.lessThan(1_250_000L)
+                )
+        );
+    }
+
+    @Test
+    public void smallValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5L);
+        histogram.record(3L);
+        MatcherAssert.assertThat(
+                "small values are exact",
+                histogram.percentile(0.5), Matchers.is(0L)
+        );
+        MatcherAssert.assertThat(
+                "small values are exact",
+                histogram.percentile(1.0), Matchers.is(3L)
+        );
+    }
+
+    @Test
+    public void copyDoesNotChange() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10L);
+        final LatencyHistogram copy = histogram.copy();
+        histogram.record(20L);
+        MatcherAssert.assertThat(
+                "copies keep their counts",
+                copy.count(), Matchers.is(1L)
+        );
+    }
+
+    @Test
+    public void empty() {
+        MatcherAssert.assertThat(
+                "empty histograms have no percentiles",
+                new LatencyHistogram().percentile(0.99), Matchers.is(0L)
+        );
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzInsert;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+import com.elbraulio.ezload.sql.InsertFromParser;
+import com.elbraulio.ezload.sql.LoadOptions;
+import com.elbraulio.ezload.sql.SqlFromParser;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link LoadMetrics}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class LoadMetricsTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.primitiveInt(
+                    0, "int_val", new NoConstrain<>(), new ToInt()
+            )
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void countStages() {
+        final LoadMetrics metrics = new LoadMetrics();
+        try (Connection connection = new SqliteConnection().connection()) {
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("test", this.parser),
+                    new LoadOptions().chunks(2).rejects(
+                            Rejects.NONE, new Tolerance(1L)
+                    ).listener(metrics)
+            ).load(connection, this.reader("1,a\nx,b\n3,c\n4,d\n5,e"));
+            final MetricsSnapshot snapshot = metrics.snapshot();
+            MatcherAssert.assertThat(
+                    "lines, bytes, rejects, rows and batches are counted",
+                    Arrays.asList(
+                            snapshot.lines(), snapshot.bytes(),
+                            snapshot.parsed(), snapshot.rejected(),
+                            snapshot.executed(), snapshot.batches().count()
+                    ),
+                    Matchers.contains(5L, 15L, 5L, 1L, 4L, 2L)
+            );
+            MatcherAssert.assertThat(
+                    "stages are timed",
+                    snapshot.parseNanos() + snapshot.executeNanos(),
+                    Matchers.greaterThan(0L)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            this.drop();
+        }
+    }
+
+    @Test
+    public void observeLoad() {
+        final LoadMetrics metrics = new LoadMetrics();
+        try (Connection connection = new SqliteConnection().connection()) {
+            MatcherAssert.assertThat(
+                    "observed loads insert every row",
+                    EzInsert.load(
+                            connection, "test", this.parser,
+                            this.reader("1,a\n2,b\n3,c"),
+                            new LoadOptions().listener(metrics)
+                    ).loaded(),
+                    Matchers.is(3L)
+            );
+            MatcherAssert.assertThat(
+                    "throughput is measured",
+                    metrics.snapshot().linesPerSecond(),
+                    Matchers.greaterThan(0.0)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            this.drop();
+        }
+    }
+
+    /**
+     * Reader of a text.
+     *
+     * @param text source.
+     * @return reader.
+     */
+    private BufferedLines reader(String text) {
+        return new BufferedLines(new BufferedReader(new StringReader(text)));
+    }
+
+    /**
+     * Remove the rows of the test table.
+     */
+    private void drop() {
+        try {
+            new DropData("test", new SqliteConnection().connection()).drop();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.sql.InsertFromParser;
+import com.elbraulio.ezload.sql.LoadOptions;
+import com.elbraulio.ezload.sql.LoadResult;
+import com.elbraulio.ezload.sql.SqlFromParser;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.SqliteConnection;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link LoadProgress}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class LoadProgressTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.primitiveInt(
+                    0, "int_val", new NoConstrain<>(), new ToInt()
+            )
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void cancelAtNextBatch() {
+        final LoadProgress progress = new LoadProgress("test", -1L);
+        progress.cancel();
+        try (Connection connection = new SqliteConnection().connection()) {
+            final LoadResult result = this.insert(progress).load(
+                    connection, this.reader("1,a\n2,b\n3,c\n4,d\n5,e")
+            );
+            MatcherAssert.assertThat(
+                    "cancelled loads commit the executed batch and stop",
+                    Arrays.asList(
+                            result.cancelled(), result.loaded(),
+                            progress.getRowsCommitted(),
+                            (long) progress.getChunkSize()
+                    ),
+                    Matchers.contains(true, 2L, 2L, 2L)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            this.drop();
+        }
+    }
+
+    @Test
+    public void registerWhileRunning() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final List<Object> committed = new ArrayList<>();
+        final LoadListener probe = new LoadListener() {
+            @Override
+            public void executed(int rows, long nanos) {
+                try {
+                    for (ObjectName name : server.queryNames(
+                            new ObjectName("com.elbraulio.ezload:*"), null
+                    )) {
+                        committed.add(
+                                server.getAttribute(name, "RowsCommitted")
+                        );
+                    }
+                } catch (JMException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+        try (Connection connection = new SqliteConnection().connection()) {
+            this.insert(probe).load(
+                    connection, this.reader("1,a\n2,b\n3,c\n4,d\n5,e")
+            );
+            MatcherAssert.assertThat(
+                    "every running load is registered with its progress",
+                    committed, Matchers.contains(0L, 2L, 4L)
+            );
+            MatcherAssert.assertThat(
+                    "ended loads are unregistered",
+                    server.queryNames(
+                            new ObjectName("com.elbraulio.ezload:*"), null
+                    ).size(),
+                    Matchers.is(0)
+            );
+        } catch (SQLException | EzException | JMException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            this.drop();
+        }
+    }
+
+    @Test
+    public void estimateTimeLeft() throws InterruptedException {
+        final LoadProgress progress = new LoadProgress("test", 100L);
+        MatcherAssert.assertThat(
+                "eta is unknown before the first batch",
+                progress.getEtaSeconds(), Matchers.is(-1L)
+        );
+        progress.started();
+        Thread.sleep(5L);
+        progress.read(50L, 0L);
+        progress.executed(5, 0L);
+        progress.finished(true);
+        MatcherAssert.assertThat(
+                "consumed bytes are published after each batch",
+                progress.getBytesRead(), Matchers.is(50L)
+        );
+        MatcherAssert.assertThat(
+                "throughput is measured since the start",
+                progress.getRowsPerSecond(), Matchers.greaterThan(0.0)
+        );
+        MatcherAssert.assertThat(
+                "eta comes from the bytes left",
+                progress.getEtaSeconds(), Matchers.greaterThanOrEqualTo(0L)
+        );
+    }
+
+    /**
+     * Insert with a listener executing every two rows.
+     *
+     * @param listener listener of the load.
+     * @return insert.
+     */
+    private InsertFromParser insert(LoadListener listener) {
+        return new InsertFromParser(
+                this.parser, new SqlFromParser("test", this.parser),
+                new LoadOptions().chunks(2).listener(listener)
+        );
+    }
+
+    /**
+     * Reader of a text.
+     *
+     * @param text source.
+     * @return reader.
+     */
+    private BufferedLines reader(String text) {
+        return new BufferedLines(new BufferedReader(new StringReader(text)));
+    }
+
+    /**
+     * Remove the rows of the test table.
+     */
+    private void drop() {
+        try {
+            new DropData("test", new SqliteConnection().connection()).drop();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
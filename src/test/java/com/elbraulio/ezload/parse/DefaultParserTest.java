@@ -25,19 +25,24 @@
 package com.elbraulio.ezload.parse;
 
 import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.action.Action;
 import com.elbraulio.ezload.column.Column;
 import com.elbraulio.ezload.column.GenericColumn;
 import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
 import com.elbraulio.ezload.exception.EzParseException;
 import com.elbraulio.ezload.transform.ToInt;
 import com.elbraulio.ezload.transform.ToString;
 import com.elbraulio.ezload.value.IntValue;
 import com.elbraulio.ezload.value.StringValue;
+import com.elbraulio.ezload.value.Value;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -172,4 +177,61 @@ public class DefaultParserTest {
             );
         }
     }
+
+    @Test
+    public void parseBytes() throws EzParseException, EzException {
+        final List<Column> columns = new LinkedList<>();
+        columns.add(EzCol.integer(2, "a", n -> n > 0, new ToInt()));
+        columns.add(EzCol.string(0, "b", s -> true, new ToString()));
+        final List<Object> values = new LinkedList<>();
+        final Action collect = new Action() {
+            @Override
+            public void execute(Integer value) {
+                values.add(value);
+            }
+
+            @Override
+            public void execute(Double value) {
+                values.add(value);
+            }
+
+            @Override
+            public void execute(String value) {
+                values.add(value);
+            }
+        };
+        final ByteBuffer record = ByteBuffer.wrap(
+                "#x::y::42#".getBytes(StandardCharsets.UTF_8)
+        );
+        record.position(1);
+        record.limit(9);
+        for (Value value : new DefaultParser("::", 3, columns)
+                .parse(record, StandardCharsets.UTF_8).values()) {
+            value.accept(collect);
+        }
+        MatcherAssert.assertThat(
+                "fields are read from the record window",
+                values.toString(),
+                Matchers.is("[42, x]")
+        );
+    }
+
+    @Test
+    public void bytesWithColErrors() {
+        try {
+            final List<Column> columns = new LinkedList<>();
+            columns.add(EzCol.integer(1, "a", n -> n < 10, new ToInt()));
+            new DefaultParser(",", 2, columns).parse(
+                    ByteBuffer.wrap("a,11".getBytes(StandardCharsets.UTF_8)),
+                    StandardCharsets.UTF_8
+            );
+            fail();
+        } catch (EzParseException e) {
+            MatcherAssert.assertThat(
+                    "same errors than parsing a String",
+                    e.errors().toString(),
+                    Matchers.is("[column 1 does not accept value '11']")
+            );
+        }
+    }
 }
\ No newline at end of file
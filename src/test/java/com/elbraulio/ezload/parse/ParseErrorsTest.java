@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.column.Column;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.line.LineBuffer;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Unit test for {@link ParseErrors}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class ParseErrorsTest {
+    private final List<Column> columns = Arrays.asList(
+            EzCol.integer(0, "a", n -> n < 10, new ToInt()),
+            EzCol.string(1, "b", String::isEmpty, new ToString())
+    );
+
+    @Test
+    public void keepCodes() {
+        final ParseErrors errors = new ParseErrors();
+        MatcherAssert.assertThat(
+                "line with errors is not parsed",
+                new DefaultParser(",", 2, this.columns).parse(
+                        "11,notEmpty", new LineBuffer(), errors
+                ),
+                Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+                "an error for each column",
+                errors.count(), Matchers.is(2)
+        );
+        MatcherAssert.assertThat(
+                "errors kept as codes",
+                Arrays.asList(
+                        errors.kind(1), errors.column(1), errors.offset(1)
+                ),
+                Matchers.contains(ErrorKind.REJECTED, 1, 1)
+        );
+    }
+
+    @Test
+    public void sameMessagesFromBytes() {
+        final ParseErrors errors = new ParseErrors();
+        new DefaultParser(",", 2, this.columns).parse(
+                ByteBuffer.wrap(
+                        "x11,notEmpty".getBytes(StandardCharsets.UTF_8), 1, 11
+                ),
+                StandardCharsets.UTF_8, new LineBuffer(), errors
+        );
+        MatcherAssert.assertThat(
+                "offset is relative to the record",
+                errors.offset(1), Matchers.is(3)
+        );
+        MatcherAssert.assertThat(
+                "messages are built from the record",
+                errors.messages().toString(),
+                Matchers.is(
+                        "[column 0 does not accept value '11', column 1 " +
+                                "does not accept value 'notEmpty']"
+                )
+        );
+    }
+
+    @Test
+    public void invalidValues() {
+        final ParseErrors errors = new ParseErrors();
+        new DefaultParser(",", 2, this.columns).parse(
+                "a,", new LineBuffer(), errors
+        );
+        MatcherAssert.assertThat(
+                "transform errors are kept with their cause",
+                errors.kind(0), Matchers.is(ErrorKind.INVALID)
+        );
+    }
+
+    @Test
+    public void numbersFromBytes() {
+        final ParseErrors errors = new ParseErrors();
+        new DefaultParser(
+                ",", 1,
+                Arrays.asList(
+                        EzCol.primitiveInt(
+                                0, "a", new NoConstrain<>(), new ToInt()
+                        )
+                )
+        ).parse(
+                ByteBuffer.wrap("4x2".getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, new LineBuffer(), errors
+        );
+        MatcherAssert.assertThat(
+                "numbers are reported without an exception",
+                errors.kind(0), Matchers.is(ErrorKind.NUMBER)
+        );
+        MatcherAssert.assertThat(
+                "same message than the exception",
+                errors.messages().toString(),
+                Matchers.is(
+                        "[column 0: java.lang.NumberFormatException: For " +
+                                "input string: \"4x2\"]"
+                )
+        );
+    }
+
+    @Test
+    public void missingFields() {
+        final ParseErrors errors = new ParseErrors();
+        new DefaultParser(",", 1, this.columns).parse(
+                "1", new LineBuffer(), errors
+        );
+        MatcherAssert.assertThat(
+                "missing fields name their index and the line length",
+                errors.messages().toString(),
+                Matchers.is(
+                        "[column 1: java.lang." +
+                                "ArrayIndexOutOfBoundsException: " +
+                                "Index 1 out of bounds for length 1]"
+                )
+        );
+    }
+
+    @Test
+    public void resetBetweenLines() {
+        final ParseErrors errors = new ParseErrors();
+        final Parser parser = new DefaultParser(",", 2, this.columns);
+        final LineBuffer buffer = new LineBuffer();
+        parser.parse("1", buffer, errors);
+        MatcherAssert.assertThat(
+                "short lines have a length error",
+                errors.kind(0), Matchers.is(ErrorKind.LENGTH)
+        );
+        MatcherAssert.assertThat(
+                "next line starts without errors",
+                parser.parse("1,", buffer, errors) && errors.isEmpty(),
+                Matchers.is(true)
+        );
+    }
+
+    @Test
+    public void stacklessException() {
+        final ParseErrors errors = new ParseErrors();
+        new DefaultParser(",", 2, this.columns).parse(
+                "11,", new LineBuffer(), errors
+        );
+        MatcherAssert.assertThat(
+                "exceptions from codes have no stack trace",
+                errors.exception().getStackTrace().length, Matchers.is(0)
+        );
+    }
+}
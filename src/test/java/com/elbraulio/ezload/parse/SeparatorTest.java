@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.parse;
+
+import com.elbraulio.ezload.line.LineScratch;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Unit test for {@link Separator}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class SeparatorTest {
+    @Test
+    public void singleChars() {
+        MatcherAssert.assertThat(
+                "plain characters are scanned",
+                Separator.of(";"),
+                Matchers.instanceOf(SingleCharSeparator.class)
+        );
+    }
+
+    @Test
+    public void singleRegexChars() {
+        MatcherAssert.assertThat(
+                "regex characters alone keep their meaning",
+                Arrays.asList(Separator.of(".").split("ab")),
+                Matchers.is(Arrays.asList("ab".split(".", -1)))
+        );
+    }
+
+    @Test
+    public void escapedLiterals() {
+        MatcherAssert.assertThat(
+                "escaped regex characters are plain text",
+                Separator.of("\\|\\|"),
+                Matchers.instanceOf(LiteralSeparator.class)
+        );
+    }
+
+    @Test
+    public void emptyMatches() {
+        for (String expression : new String[]{"|", "||", "a*"}) {
+            MatcherAssert.assertThat(
+                    "regex that match empty text split as String.split: " +
+                            expression,
+                    Arrays.asList(Separator.of(expression).split("ab|c")),
+                    Matchers.is(Arrays.asList("ab|c".split(expression, -1)))
+            );
+        }
+    }
+
+    @Test(expected = PatternSyntaxException.class)
+    public void invalidRegex() {
+        Separator.of("a(b");
+    }
+
+    @Test
+    public void regex() {
+        MatcherAssert.assertThat(
+                "regex are compiled",
+                Separator.of("\\s+"),
+                Matchers.instanceOf(RegexSeparator.class)
+        );
+    }
+
+    @Test
+    public void sameFieldsThanSplit() {
+        final String[] lines = {"", ",", "a", "a,b", ",a,,b,", "a,,"};
+        for (String line : lines) {
+            MatcherAssert.assertThat(
+                    "same fields than String.split for: " + line,
+                    Arrays.asList(new SingleCharSeparator(',').split(line)),
+                    Matchers.is(Arrays.asList(line.split(",", -1)))
+            );
+            final String literal = line.replace(",", "::");
+            MatcherAssert.assertThat(
+                    "same fields than String.split for: " + literal,
+                    Arrays.asList(Separator.of("::").split(literal)),
+                    Matchers.is(Arrays.asList(literal.split("::", -1)))
+            );
+        }
+    }
+
+    @Test
+    public void fieldsOfRecords() {
+        final LineScratch scratch = new LineScratch(1);
+        final ByteBuffer record = ByteBuffer.wrap(
+                "a||bc||||d".getBytes(StandardCharsets.UTF_8)
+        );
+        final int fields = Separator.of("\\|\\|").fields(
+                record, StandardCharsets.UTF_8, scratch
+        );
+        final StringBuilder bounds = new StringBuilder();
+        for (int i = 0; i < fields; i++) {
+            bounds.append(scratch.start(i)).append('-')
+                    .append(scratch.end(i)).append(' ');
+        }
+        MatcherAssert.assertThat(
+                "bounds of each field",
+                bounds.toString(),
+                Matchers.is("0-1 3-5 7-7 9-10 ")
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzParseException;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Unit test for {@link BufferedLines}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class BufferedLinesTest {
+    @Test
+    public void readLines() throws IOException {
+        final EzReader reader = new BufferedLines(
+                new BufferedReader(new StringReader("a\nb"))
+        );
+        reader.next();
+        reader.next();
+        MatcherAssert.assertThat(
+                "reads line by line",
+                reader.line() + reader.next(),
+                Matchers.is("bfalse")
+        );
+    }
+
+    @Test
+    public void parseCurrentLine() throws IOException, EzParseException {
+        final EzReader reader = new BufferedLines(
+                new BufferedReader(new StringReader("1,2"))
+        );
+        reader.next();
+        MatcherAssert.assertThat(
+                "current line is parsed",
+                reader.parse(
+                        EzLoad.parse(",", 2).withCol(
+                                EzCol.integer(
+                                        1, "int_val", new NoConstrain<>(),
+                                        new ToInt()
+                                )
+                        ).parser()
+                ).values().size(),
+                Matchers.is(1)
+        );
+    }
+}
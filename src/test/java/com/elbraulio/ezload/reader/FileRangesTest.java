@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Unit test for {@link FileRanges}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class FileRangesTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void everyRecordOnce() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(
+                path,
+                "one\ntwo\n\nthree\r\nfour\nfive".getBytes(
+                        StandardCharsets.UTF_8
+                )
+        );
+        for (long size = 1L; size < 30L; size++) {
+            final FileRanges ranges = new FileRanges(
+                    path, StandardCharsets.UTF_8, size
+            );
+            final List<String> lines = new LinkedList<>();
+            for (int i = 0; i < ranges.count(); i++) {
+                try (EzReader reader = ranges.range(i)) {
+                    while (reader.next()) {
+                        lines.add(reader.line());
+                    }
+                }
+            }
+            MatcherAssert.assertThat(
+                    "ranges of " + size + " bytes read each record once",
+                    lines.toString(),
+                    Matchers.is("[one, two, , three, four, five]")
+            );
+        }
+    }
+
+    @Test
+    public void emptyFile() throws IOException {
+        MatcherAssert.assertThat(
+                "empty files have one empty range",
+                new FileRanges(this.folder.newFile().toPath()).count(),
+                Matchers.is(1)
+        );
+    }
+}
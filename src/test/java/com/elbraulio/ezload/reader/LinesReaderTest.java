@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reader;
+
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.sql.Insert;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.stream.Collectors;
+
+/**
+ * Unit test for {@link LinesReader}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class LinesReaderTest {
+    @Test
+    public void readRecordsAsLines() throws IOException {
+        try (
+                BufferedReader reader = new BufferedReader(
+                        new LinesReader(this.source("a,1\n\nbc,2"))
+                )
+        ) {
+            MatcherAssert.assertThat(
+                    "each record is a line",
+                    reader.lines().collect(Collectors.toList()),
+                    Matchers.contains("a,1", "", "bc,2")
+            );
+        }
+    }
+
+    @Test
+    public void adaptBufferedInserts() throws EzException {
+        final Insert insert = (connection, bufferedReader) -> {
+            try {
+                return bufferedReader.lines().count();
+            } catch (UncheckedIOException e) {
+                throw new EzException("IO error: " + e.toString(), e);
+            }
+        };
+        MatcherAssert.assertThat(
+                "inserts without reader support read its lines",
+                insert.execute(null, this.source("a\nb\nc")), Matchers.is(3L)
+        );
+    }
+
+    /**
+     * Reader of a text.
+     *
+     * @param text source.
+     * @return reader.
+     */
+    private EzReader source(String text) {
+        return new BufferedLines(new BufferedReader(new StringReader(text)));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.reader;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link MappedFile}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class MappedFileTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readLines() throws IOException {
+        MatcherAssert.assertThat(
+                "records are separated by new lines",
+                this.lines(
+                        new MappedFile(this.file("a,1\r\nb,2\n\nc,3")), "|"
+                ),
+                Matchers.is("a,1|b,2||c,3|")
+        );
+    }
+
+    @Test
+    public void lastNewLineIsNotARecord() throws IOException {
+        MatcherAssert.assertThat(
+                "a trailing new line does not add an empty record",
+                this.lines(new MappedFile(this.file("a\nb\n")), "|"),
+                Matchers.is("a|b|")
+        );
+    }
+
+    @Test
+    public void emptyFile() throws IOException {
+        MatcherAssert.assertThat(
+                "empty files have no records",
+                this.lines(new MappedFile(this.file("")), "|"),
+                Matchers.is("")
+        );
+    }
+
+    @Test
+    public void recordsAcrossSegments() throws IOException {
+        MatcherAssert.assertThat(
+                "records crossing a segment are read from a new mapping",
+                this.lines(
+                        new MappedFile(
+                                this.file("first\nsecond\nthird\nlast"),
+                                StandardCharsets.UTF_8, 8
+                        ),
+                        "|"
+                ),
+                Matchers.is("first|second|third|last|")
+        );
+    }
+
+    @Test
+    public void recordLongerThanSegment() throws IOException {
+        try {
+            this.lines(
+                    new MappedFile(
+                            this.file("a\nvery long record\n"),
+                            StandardCharsets.UTF_8, 4
+                    ),
+                    "|"
+            );
+            fail();
+        } catch (IOException e) {
+            MatcherAssert.assertThat(
+                    "records must fit in a segment",
+                    e.getMessage(),
+                    Matchers.is("record at byte 2 is longer than 4 bytes")
+            );
+        }
+    }
+
+    /**
+     * Write a temporary file.
+     *
+     * @param content file content.
+     * @return file path.
+     * @throws IOException when the file can not be written.
+     */
+    private Path file(String content) throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    /**
+     * Read every record.
+     *
+     * @param reader reader.
+     * @param end    text appended to each record.
+     * @return records.
+     * @throws IOException when the reader fails.
+     */
+    private String lines(EzReader reader, String end) throws IOException {
+        final List<String> lines = new LinkedList<>();
+        try (EzReader source = reader) {
+            while (source.next()) {
+                lines.add(source.line() + end);
+            }
+        }
+        return String.join("", lines);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import com.elbraulio.ezload.exception.EzException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+
+/**
+ * Unit test for {@link RejectWriter}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class RejectWriterTest {
+    @Test
+    public void writeRecords() throws EzException {
+        final StringWriter writer = new StringWriter();
+        new RejectWriter(writer).reject(
+                7L, "a,b", Arrays.asList("first", "second")
+        );
+        MatcherAssert.assertThat(
+                "line number, raw line and reasons are tab separated",
+                writer.toString(),
+                Matchers.is("7\ta,b\tfirst; second" + System.lineSeparator())
+        );
+    }
+
+    @Test
+    public void escapeFields() throws EzException {
+        final StringWriter writer = new StringWriter();
+        new RejectWriter(writer).reject(
+                3L, "a\tb\\c", Arrays.asList("bad\r\nvalue")
+        );
+        MatcherAssert.assertThat(
+                "tabs, line breaks and backslashes are escaped",
+                writer.toString(),
+                Matchers.is(
+                        "3\ta\\tb\\\\c\tbad\\r\\nvalue" +
+                                System.lineSeparator()
+                )
+        );
+    }
+}
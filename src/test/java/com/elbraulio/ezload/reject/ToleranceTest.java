@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Tolerance}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class ToleranceTest {
+    @Test
+    public void strict() {
+        MatcherAssert.assertThat(
+                "the first rejected line stops the load",
+                Tolerance.STRICT.exceeded(1L, 1L),
+                Matchers.is(true)
+        );
+    }
+
+    @Test
+    public void ratioAfterSample() {
+        final Tolerance tolerance = new Tolerance(100L, 0.1, 10L);
+        MatcherAssert.assertThat(
+                "ratio is not checked before the sample",
+                tolerance.exceeded(5L, 9L),
+                Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+                "ratio is checked after the sample",
+                tolerance.exceeded(5L, 10L),
+                Matchers.is(true)
+        );
+    }
+}
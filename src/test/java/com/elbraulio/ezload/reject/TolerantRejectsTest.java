@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.reject;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.line.LineBuffer;
+import com.elbraulio.ezload.parse.ErrorKind;
+import com.elbraulio.ezload.parse.ParseErrors;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link TolerantRejects}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class TolerantRejectsTest {
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "id", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void handErrorsUntilTheLoadStops() {
+        final List<ErrorKind> kinds = new ArrayList<>();
+        final Rejects codes = new Rejects() {
+            @Override
+            public void reject(long line, String raw, List<String> reasons) {
+                fail();
+            }
+
+            @Override
+            public void reject(long line, String raw, ParseErrors errors) {
+                kinds.add(errors.kind(0));
+            }
+        };
+        final TolerantRejects rejects = new TolerantRejects(
+                codes, new Tolerance(1L), 0L
+        );
+        final ParseErrors errors = new ParseErrors();
+        try {
+            this.parser.parse("x", new LineBuffer(), errors);
+            rejects.reject(1L, "x", errors);
+            this.parser.parse("y", new LineBuffer(), errors);
+            rejects.reject(2L, "y", errors);
+            fail();
+        } catch (EzException e) {
+            MatcherAssert.assertThat(
+                    "messages are built when the load stops",
+                    e.getMessage(),
+                    Matchers.is(
+                            "errors on row 1 --> [column 0: " +
+                                    "java.lang.NumberFormatException: " +
+                                    "For input string: \"y\"], " +
+                                    "2 rejected rows of 2 read"
+                    )
+            );
+        }
+        MatcherAssert.assertThat(
+                "rejects get the error codes",
+                kinds, Matchers.contains(ErrorKind.INVALID, ErrorKind.INVALID)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link AdaptiveChunk}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class AdaptiveChunkTest {
+    @Test
+    public void settleOnBestThroughput() {
+        final AdaptiveChunk chunks = new AdaptiveChunk(10, 100_000);
+        for (int i = 0; i < 60; i++) {
+            final long rows = chunks.size();
+            // fixed cost per batch plus a cost that grows with the batch,
+            // the best throughput is at 1000 rows
+            chunks.executed(
+                    chunks.size(), 0L, 1_000_000L + 100L * rows + rows * rows
+            );
+        }
+        MatcherAssert.assertThat(
+                "size settles near the best throughput",
+                chunks.size(),
+                Matchers.allOf(
+                        Matchers.greaterThan(700), Matchers.lessThan(1400)
+                )
+        );
+    }
+
+    @Test
+    public void boundMemory() {
+        final AdaptiveChunk chunks = new AdaptiveChunk(10, 100_000, 1000L);
+        MatcherAssert.assertThat(
+                "batch is full when it reaches the bytes",
+                chunks.full(1, 1000L), Matchers.is(true)
+        );
+        chunks.executed(5, 1000L, 1L);
+        MatcherAssert.assertThat(
+                "wide rows do not grow the size",
+                chunks.size(), Matchers.is(10)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Unit test for {@link BatchCounts}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class BatchCountsTest {
+    @Test
+    public void countRowsWithoutInfo() throws SQLException {
+        final BatchCounts counts = new BatchCounts();
+        final PreparedStatement psmt = BatchCountsTest.statement(
+                new int[]{1, Statement.SUCCESS_NO_INFO, 2}
+        );
+        MatcherAssert.assertThat(
+                "rows without info are loaded as one row, not as -2",
+                counts.execute(psmt), Matchers.is(4L)
+        );
+        counts.execute(psmt);
+        MatcherAssert.assertThat(
+                "counts are kept apart",
+                counts.affected() + " " + counts.unknown() + " " +
+                        counts.batches(),
+                Matchers.is("6 2 2")
+        );
+    }
+
+    /**
+     * Statement whose driver does not support large batches.
+     *
+     * @param counts counts returned by each batch.
+     * @return prepared statement.
+     */
+    private static PreparedStatement statement(int[] counts) {
+        return (PreparedStatement) Proxy.newProxyInstance(
+                BatchCountsTest.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class},
+                (proxy, method, args) -> {
+                    if ("executeBatch".equals(method.getName())) {
+                        return counts.clone();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                }
+        );
+    }
+}
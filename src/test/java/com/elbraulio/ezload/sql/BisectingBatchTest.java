@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.metrics.LoadListener;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link BisectingBatch}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class BisectingBatchTest {
+    /**
+     * SQLite reports constraint violations without a SQLState.
+     */
+    private static final DataErrors SQLITE =
+            error -> error.getErrorCode() == 19;
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "id", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void rejectRefusedRows() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(
+                        "CREATE TEMP TABLE positive " +
+                                "(id integer CHECK (id > 0));"
+                );
+            }
+            final List<Long> rejected = new LinkedList<>();
+            final LoadResult result = new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(4).rejects(
+                            (line, raw, reasons) -> rejected.add(line),
+                            new Tolerance(2L)
+                    ).bisecting(BisectingBatchTest.SQLITE)
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("1\n-2\n3\n4\n5\n-6\n7")
+                            )
+                    )
+            );
+            MatcherAssert.assertThat(
+                    "only refused rows are rejected",
+                    rejected.toString(), Matchers.is("[2, 6]")
+            );
+            MatcherAssert.assertThat(
+                    "result counts refused rows",
+                    result.toString(),
+                    Matchers.is("loaded: 5, rejected: 2, read: 7")
+            );
+            MatcherAssert.assertThat(
+                    "valid rows are committed",
+                    new ReadValue(
+                            "SELECT id FROM positive ORDER BY rowid;",
+                            connection
+                    ).value(rs -> rs.getInt(1)).toString(),
+                    Matchers.is("[1, 3, 4, 5, 7]")
+            );
+            MatcherAssert.assertThat(
+                    "auto-commit mode is kept",
+                    connection.getAutoCommit(), Matchers.is(true)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    @Test
+    public void listenRefusedRows() {
+        final AtomicLong rejected = new AtomicLong();
+        try (Connection connection = new SqliteConnection().connection()) {
+            this.createPositive(connection);
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(4).rejects(
+                            Rejects.NONE, new Tolerance(3L)
+                    ).bisecting(BisectingBatchTest.SQLITE).listener(
+                            new LoadListener() {
+                                @Override
+                                public void rejected() {
+                                    rejected.incrementAndGet();
+                                }
+                            }
+                    )
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("1\n-2\nx\n4\n-5")
+                            )
+                    )
+            );
+            MatcherAssert.assertThat(
+                    "refused and malformed rows are both listened",
+                    rejected.get(), Matchers.is(3L)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        }
+    }
+
+    @Test
+    public void stopWhenToleranceIsExceeded() {
+        final List<Long> rejected = new LinkedList<>();
+        try (Connection connection = new SqliteConnection().connection()) {
+            this.createPositive(connection);
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(10).rejects(
+                            (line, raw, reasons) -> rejected.add(line),
+                            new Tolerance(1L)
+                    ).bisecting(BisectingBatchTest.SQLITE)
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("-1\n2\n-3\n-4\n5\n-6")
+                            )
+                    )
+            );
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "load stops on the refused row over the tolerance",
+                    e.getMessage(),
+                    Matchers.startsWith("errors on row 2 --> ")
+            );
+            MatcherAssert.assertThat(
+                    "no more rows are bisected",
+                    rejected.toString(), Matchers.is("[1, 3]")
+            );
+        }
+    }
+
+    @Test
+    public void failOnOtherErrors() {
+        final List<Long> rejected = new LinkedList<>();
+        try (Connection connection = new SqliteConnection().connection()) {
+            this.createPositive(connection);
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(4).rejects(
+                            (line, raw, reasons) -> rejected.add(line),
+                            new Tolerance(10L)
+                    ).bisecting()
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("1\n-2\n3")
+                            )
+                    )
+            );
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "errors not caused by the rows stop the load",
+                    e.getMessage(), Matchers.startsWith("Sql error: ")
+            );
+            MatcherAssert.assertThat(
+                    "no row is bisected", rejected.isEmpty(),
+                    Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    public void failOnBatchErrorsOfTheDataBase() {
+        final List<Long> rejected = new LinkedList<>();
+        try (Connection origin = new SqliteConnection().connection()) {
+            this.createPositive(origin);
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(4).rejects(
+                            (line, raw, reasons) -> rejected.add(line),
+                            new Tolerance(10L)
+                    ).bisecting()
+            ).load(
+                    this.lostConnection(origin),
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("1\n2\n3")
+                            )
+                    )
+            );
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "batch updates of a lost connection stop the load",
+                    e.getMessage(),
+                    Matchers.is("Sql error: java.sql.BatchUpdateException: " +
+                            "connection lost")
+            );
+            MatcherAssert.assertThat(
+                    "no row is bisected", rejected.isEmpty(),
+                    Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * Connection whose batches fail with a connection exception.
+     *
+     * @param origin real connection.
+     * @return connection.
+     */
+    private Connection lostConnection(Connection origin) {
+        return (Connection) Proxy.newProxyInstance(
+                BisectingBatchTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final Object result = method.invoke(origin, args);
+                    if (!(result instanceof PreparedStatement)) {
+                        return result;
+                    }
+                    return Proxy.newProxyInstance(
+                            BisectingBatchTest.class.getClassLoader(),
+                            new Class<?>[]{PreparedStatement.class},
+                            (statement, call, values) -> {
+                                final String name = call.getName();
+                                if (name.startsWith("execute") &&
+                                        name.endsWith("Batch")) {
+                                    throw new BatchUpdateException(
+                                            "connection lost", "08006",
+                                            new int[0]
+                                    );
+                                }
+                                return call.invoke(result, values);
+                            }
+                    );
+                }
+        );
+    }
+
+    /**
+     * Create a table of positive ids.
+     *
+     * @param connection connection to data base.
+     * @throws SQLException when the table can not be created.
+     */
+    private void createPositive(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                    "CREATE TEMP TABLE positive (id integer CHECK (id > 0));"
+            );
+        }
+    }
+}
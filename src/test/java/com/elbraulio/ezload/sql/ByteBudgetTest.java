@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzInsert;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link ByteBudget}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class ByteBudgetTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.primitiveInt(
+                    0, "int_val", new NoConstrain<>(), new ToInt()
+            )
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void wideRowsGoAlone() {
+        MatcherAssert.assertThat(
+                "narrow rows share a batch until the budget",
+                this.load(new ByteBudget(100L)).batches(), Matchers.is(3L)
+        );
+    }
+
+    @Test
+    public void capRows() {
+        MatcherAssert.assertThat(
+                "rows are capped together with the budget",
+                this.load(new ByteBudget(100L, 2)).batches(),
+                Matchers.is(4L)
+        );
+    }
+
+    @Test
+    public void reportExecutedRows() {
+        MatcherAssert.assertThat(
+                "chunk size is the rows of the largest batch",
+                this.load(new ByteBudget(100L)).chunkSize(), Matchers.is(4)
+        );
+    }
+
+    @Test
+    public void boundStreaming() {
+        final ChunkPolicy streaming = ChunkPolicy.streaming();
+        MatcherAssert.assertThat(
+                "default batches are bounded by rows and bytes",
+                Arrays.asList(
+                        streaming.full(ChunkPolicy.STREAMING_ROWS - 1, 0L),
+                        streaming.full(ChunkPolicy.STREAMING_ROWS, 0L),
+                        streaming.full(1, ChunkPolicy.STREAMING_BYTES)
+                ),
+                Matchers.contains(false, true, true)
+        );
+    }
+
+    /**
+     * Load four narrow rows, a wide one and a narrow one.
+     *
+     * @param chunks chunk policy.
+     * @return result of the load.
+     */
+    private LoadResult load(ChunkPolicy chunks) {
+        final char[] wide = new char[100];
+        Arrays.fill(wide, 'w');
+        try (Connection connection = new SqliteConnection().connection()) {
+            return EzInsert.load(
+                    connection, "test", this.parser,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader(
+                                            "1,a\n2,b\n3,c\n4,d\n5," +
+                                                    new String(wide) + "\n6,f"
+                                    )
+                            )
+                    ),
+                    new LoadOptions().chunks(chunks)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+            return null;
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
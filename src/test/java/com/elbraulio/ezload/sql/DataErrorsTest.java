@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+import java.sql.BatchUpdateException;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Unit test for {@link DataErrors}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class DataErrorsTest {
+    @Test
+    public void standardDataErrors() {
+        final SQLException chained = new BatchUpdateException(
+                "batch failed", "HY000", new int[0]
+        );
+        chained.setNextException(new SQLException("not null", "23502"));
+        MatcherAssert.assertThat(
+                "classes 22 and 23 are data errors, also when chained",
+                Arrays.asList(
+                        DataErrors.STANDARD.refused(
+                                new BatchUpdateException(
+                                        "duplicate key", "23505", new int[0]
+                                )
+                        ),
+                        DataErrors.STANDARD.refused(chained),
+                        DataErrors.STANDARD.refused(
+                                new SQLException("out of range", "22003")
+                        ),
+                        DataErrors.STANDARD.refused(
+                                new SQLException("duplicate key", "23505")
+                        )
+                ),
+                Matchers.contains(true, true, true, true)
+        );
+    }
+
+    @Test
+    public void otherErrors() {
+        MatcherAssert.assertThat(
+                "connection errors and unknown states are not data errors",
+                Arrays.asList(
+                        DataErrors.STANDARD.refused(
+                                new SQLException("closed", "08003")
+                        ),
+                        DataErrors.STANDARD.refused(
+                                new SQLException("no table", "42P01")
+                        ),
+                        DataErrors.STANDARD.refused(new SQLException("?")),
+                        DataErrors.STANDARD.refused(new BatchUpdateException()),
+                        DataErrors.STANDARD.refused(
+                                new BatchUpdateException(
+                                        "closed", "08006", new int[0]
+                                )
+                        )
+                ),
+                Matchers.contains(false, false, false, false, false)
+        );
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link DataSourceInsert}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class DataSourceInsertTest {
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "int_val", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void sumEveryWriter() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            MatcherAssert.assertThat(
+                    "rows of every writer are counted",
+                    new DataSourceInsert(
+                            this.parser, new SqlFromParser("test", this.parser),
+                            5, 3
+                    ).execute(
+                            new SqliteConnection().dataSource(),
+                            this.source(100)
+                    ),
+                    Matchers.is(100L)
+            );
+            MatcherAssert.assertThat(
+                    "every chunk is committed",
+                    new ReadValue(
+                            "SELECT sum(int_val) FROM test;", connection
+                    ).value(rs -> rs.getInt(1)).get(0),
+                    Matchers.is(4950)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void rejectNoWriters() {
+        try {
+            new DataSourceInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 10, 0
+            );
+            fail();
+        } catch (IllegalArgumentException e) {
+            MatcherAssert.assertThat(
+                    "loads need a writer",
+                    e.getMessage(), Matchers.is("writers must be positive")
+            );
+        }
+    }
+
+    @Test
+    public void writerErrors() {
+        try {
+            new DataSourceInsert(
+                    this.parser, new SqlFromParser("missing", this.parser),
+                    5, 2
+            ).execute(new SqliteConnection().dataSource(), this.source(20));
+            fail();
+        } catch (EzException e) {
+            MatcherAssert.assertThat(
+                    "sql errors of the writers are thrown",
+                    e.getMessage(),
+                    Matchers.startsWith("Sql error: ")
+            );
+        }
+    }
+
+    @Test
+    public void keepFailureOverRollback() {
+        try {
+            new DataSourceInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 5, 1
+            ).execute(this.failing(), this.source(20));
+            fail();
+        } catch (EzException e) {
+            final Throwable failure = e.getCause().getCause();
+            MatcherAssert.assertThat(
+                    "the batch failure is thrown with the rollback one",
+                    failure.getMessage() + ", " +
+                            failure.getSuppressed()[0].getMessage(),
+                    Matchers.is("batch failed, rollback failed")
+            );
+        }
+    }
+
+    /**
+     * Data source whose batches and rollbacks fail.
+     *
+     * @return data source.
+     */
+    private DataSource failing() {
+        final DataSource origin = new SqliteConnection().dataSource();
+        return DataSourceInsertTest.proxy(
+                DataSource.class, origin,
+                (method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        return this.failing(origin.getConnection());
+                    }
+                    return method.invoke(origin, args);
+                }
+        );
+    }
+
+    /**
+     * Connection whose batches and rollbacks fail.
+     *
+     * @param origin real connection.
+     * @return connection.
+     */
+    private Connection failing(Connection origin) {
+        return DataSourceInsertTest.proxy(
+                Connection.class, origin,
+                (method, args) -> {
+                    if ("rollback".equals(method.getName())) {
+                        throw new SQLException("rollback failed");
+                    }
+                    final Object result = method.invoke(origin, args);
+                    if (result instanceof PreparedStatement) {
+                        return DataSourceInsertTest.proxy(
+                                PreparedStatement.class, result,
+                                (call, values) -> {
+                                    if (call.getName().startsWith(
+                                            "execute"
+                                    )) {
+                                        throw new SQLException(
+                                                "batch failed"
+                                        );
+                                    }
+                                    return call.invoke(result, values);
+                                }
+                        );
+                    }
+                    return result;
+                }
+        );
+    }
+
+    /**
+     * Proxy that unwraps the exceptions of the real object.
+     *
+     * @param type    interface to implement.
+     * @param origin  real object.
+     * @param handler method handler.
+     * @param <T>     interface type.
+     * @return proxy.
+     */
+    private static <T> T proxy(Class<T> type, Object origin, Handler handler) {
+        return type.cast(
+                Proxy.newProxyInstance(
+                        DataSourceInsertTest.class.getClassLoader(),
+                        new Class<?>[]{type},
+                        (proxy, method, args) -> {
+                            try {
+                                return handler.handle(method, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                )
+        );
+    }
+
+    /**
+     * Handles a proxied call.
+     */
+    private interface Handler {
+        /**
+         * Handle a call.
+         *
+         * @param method called method.
+         * @param args   call arguments.
+         * @return result.
+         * @throws Exception when the call fails.
+         */
+        Object handle(Method method, Object[] args) throws Exception;
+    }
+
+    /**
+     * Source with a number per line.
+     *
+     * @param lines number of lines.
+     * @return source.
+     */
+    private BufferedLines source(int lines) {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(i).append('\n');
+        }
+        return new BufferedLines(
+                new BufferedReader(new StringReader(content.toString()))
+        );
+    }
+}
@@ -24,27 +24,46 @@
 
 package com.elbraulio.ezload.sql;
 
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
 import com.elbraulio.ezload.column.Column;
 import com.elbraulio.ezload.column.GenericColumn;
 import com.elbraulio.ezload.constrain.NoConstrain;
 import com.elbraulio.ezload.exception.EzException;
 import com.elbraulio.ezload.parse.DefaultParser;
 import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reader.MappedFile;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+import com.elbraulio.ezload.transform.ToDouble;
+import com.elbraulio.ezload.transform.ToInt;
 import com.elbraulio.ezload.transform.ToString;
 import com.elbraulio.ezload.value.StringValue;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import util.DropData;
 import util.Log4j;
 import util.ReadValue;
 import util.SqliteConnection;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -56,6 +75,9 @@ import static junit.framework.TestCase.fail;
  * @author Braulio Lopez (brauliop.3@gmail.com)
  */
 public class InsertFromParserTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
     @Test
     public void addString() {
         try (Connection connection = new SqliteConnection().connection()) {
@@ -130,6 +152,38 @@ public class InsertFromParserTest {
         }
     }
 
+    @Test
+    public void countRowsWithoutInfo() {
+        try (Connection origin = new SqliteConnection().connection()) {
+            final Parser parser = EzLoad.parse(",", 1).withCol(
+                    EzCol.integer(
+                            0, "int_val", new NoConstrain<>(), new ToInt()
+                    )
+            ).parser();
+            MatcherAssert.assertThat(
+                    "rows without count are loaded rows",
+                    new InsertFromParser(
+                            parser, new SqlFromParser("test", parser), 2,
+                            new Log4j()
+                    ).execute(
+                            InsertFromParserTest.withoutInfo(origin),
+                            new BufferedReader(new StringReader("1\n2\n3"))
+                    ),
+                    Matchers.is(3L)
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
     @Test
     public void sqlError() {
         try (Connection connection = new SqliteConnection().connection()) {
@@ -169,4 +223,198 @@ public class InsertFromParserTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void rejectLines() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            final Parser parser = EzLoad.parse(",", 2).withCol(
+                    EzCol.integer(0, "int_val", n -> n > 0, new ToInt())
+            ).withCol(
+                    EzCol.string(
+                            1, "string_val", new NoConstrain<>(),
+                            new ToString()
+                    )
+            ).parser();
+            final List<String> rejected = new LinkedList<>();
+            final LoadResult result = new InsertFromParser(
+                    parser, new SqlFromParser("test", parser),
+                    new LoadOptions().chunks(2).rejects(
+                            (line, raw, reasons) -> rejected.add(
+                                    line + " " + raw + " " + reasons
+                            ),
+                            new Tolerance(2L)
+                    )
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(
+                                    new StringReader("1,a\n-2,b\n3,c\nd")
+                            )
+                    )
+            );
+            MatcherAssert.assertThat(
+                    "result reports loaded and rejected lines",
+                    result.toString(),
+                    Matchers.is("loaded: 2, rejected: 2, read: 4")
+            );
+            MatcherAssert.assertThat(
+                    "rejected lines keep their number and reasons",
+                    rejected.toString(),
+                    Matchers.is(
+                            "[2 -2,b [column 0 does not accept value '-2'], " +
+                                    "4 d [line length is 1, must be " +
+                                    "greater than 2 on line: [d]]]"
+                    )
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void stopOnTooManyErrors() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            final Parser parser = EzLoad.parse(",", 1).withCol(
+                    EzCol.integer(
+                            0, "int_val", new NoConstrain<>(), new ToInt()
+                    )
+            ).parser();
+            new InsertFromParser(
+                    parser, new SqlFromParser("test", parser),
+                    new LoadOptions().chunks(2).rejects(
+                            Rejects.NONE, new Tolerance(1L)
+                    )
+            ).execute(
+                    connection,
+                    new BufferedReader(new StringReader("a\n1\nb"))
+            );
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "load stops when the tolerance is exceeded",
+                    e.getMessage(),
+                    Matchers.is(
+                            "errors on row 2 --> [column 0: " +
+                                    "java.lang.NumberFormatException: " +
+                                    "For input string: \"b\"], " +
+                                    "2 rejected rows of 3 read"
+                    )
+            );
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void insertMappedFileWithPrimitives() throws IOException {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(
+                file,
+                "1,a,1.5\nnull,b,2.5\n3,c,3.5\n"
+                        .getBytes(StandardCharsets.UTF_8)
+        );
+        final Parser parser = EzLoad.parse(",", 3).withCol(
+                EzCol.nullable(
+                        "null",
+                        EzCol.primitiveInt(
+                                0, "int_val", new NoConstrain<>(), new ToInt()
+                        )
+                )
+        ).withCol(
+                EzCol.string(
+                        1, "string_val", new NoConstrain<>(), new ToString()
+                )
+        ).withCol(
+                EzCol.primitiveDouble(
+                        2, "double_val", new NoConstrain<>(), new ToDouble()
+                )
+        ).parser();
+        try (
+                Connection connection = new SqliteConnection().connection();
+                MappedFile reader = new MappedFile(file)
+        ) {
+            MatcherAssert.assertThat(
+                    "every record is inserted",
+                    new InsertFromParser(
+                            parser, new SqlFromParser("test", parser), 2
+                    ).execute(connection, reader),
+                    Matchers.is(3L)
+            );
+            MatcherAssert.assertThat(
+                    "binders do not keep values of other records",
+                    new ReadValue(
+                            "SELECT int_val, string_val, double_val FROM " +
+                                    "test ORDER BY rowid;",
+                            connection
+                    ).value(
+                            rs -> rs.getObject(1) + " " + rs.getString(2) +
+                                    " " + rs.getDouble(3)
+                    ).toString(),
+                    Matchers.is("[1 a 1.5, null b 2.5, 3 c 3.5]")
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Connection whose batches report {@link Statement#SUCCESS_NO_INFO},
+     * like drivers that rewrite batches.
+     *
+     * @param origin real connection.
+     * @return connection.
+     */
+    private static Connection withoutInfo(Connection origin) {
+        return (Connection) Proxy.newProxyInstance(
+                InsertFromParserTest.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    final Object result = method.invoke(origin, args);
+                    if (!(result instanceof PreparedStatement)) {
+                        return result;
+                    }
+                    return Proxy.newProxyInstance(
+                            InsertFromParserTest.class.getClassLoader(),
+                            new Class<?>[]{PreparedStatement.class},
+                            (statement, call, values) -> {
+                                final String name = call.getName();
+                                if ("executeLargeBatch".equals(name)) {
+                                    throw new SQLFeatureNotSupportedException();
+                                }
+                                final Object counts = call.invoke(
+                                        result, values
+                                );
+                                if ("executeBatch".equals(name)) {
+                                    Arrays.fill(
+                                            (int[]) counts,
+                                            Statement.SUCCESS_NO_INFO
+                                    );
+                                }
+                                return counts;
+                            }
+                    );
+                }
+        );
+    }
+}
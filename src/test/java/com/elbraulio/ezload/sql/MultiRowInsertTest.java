@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link MultiRowInsert}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class MultiRowInsertTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.integer(0, "int_val", new NoConstrain<>(), new ToInt())
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void insertWithLastRows() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            MatcherAssert.assertThat(
+                    "full and partial statements are inserted",
+                    new MultiRowInsert(
+                            this.parser,
+                            new MultiRowSql("test", this.parser, 6), 6
+                    ).execute(connection, this.source(10, -1)),
+                    Matchers.is(10L)
+            );
+            MatcherAssert.assertThat(
+                    "rows keep the order of the source",
+                    new ReadValue(
+                            "SELECT string_val FROM test ORDER BY rowid;",
+                            connection
+                    ).value(rs -> rs.getString(1)).toString(),
+                    Matchers.is("[a0, a1, a2, a3, a4, a5, a6, a7, a8, a9]")
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void lineOnErrors() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            new MultiRowInsert(
+                    this.parser, new MultiRowSql("test", this.parser, 6), 6
+            ).execute(connection, this.source(10, 7));
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "errors keep the line number of the source",
+                    e.getMessage(),
+                    Matchers.is(
+                            "errors on row 7 --> [column 0: java.lang" +
+                                    ".NumberFormatException: For input " +
+                                    "string: \"x\"]"
+                    )
+            );
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Source with a number and a text per line.
+     *
+     * @param lines number of lines.
+     * @param wrong line with a wrong value, -1 for none.
+     * @return source.
+     */
+    private BufferedReader source(int lines, int wrong) {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(i == wrong ? "x" : String.valueOf(i))
+                    .append(",a").append(i).append('\n');
+        }
+        return new BufferedReader(new StringReader(content.toString()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link MultiRowSql}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class MultiRowSqlTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.integer(0, "first", new NoConstrain<>(), new ToInt())
+    ).withCol(
+            EzCol.string(1, "second", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void rowsUnderLimit() {
+        MatcherAssert.assertThat(
+                "rows keep the parameters under the limit",
+                new MultiRowSql("name", this.parser, 7).rows(),
+                Matchers.is(3)
+        );
+    }
+
+    @Test
+    public void atLeastOneRow() {
+        MatcherAssert.assertThat(
+                "a statement has one row even if the limit is lower",
+                new MultiRowSql("name", this.parser, 1).rows(),
+                Matchers.is(1)
+        );
+    }
+
+    @Test
+    public void manyRows() {
+        MatcherAssert.assertThat(
+                "every row has its placeholders",
+                new MultiRowSql("name", this.parser, 7).sql(),
+                Matchers.is(
+                        "INSERT INTO name (first,second) VALUES " +
+                                "(?,?),(?,?),(?,?);"
+                )
+        );
+    }
+
+    @Test
+    public void lastRows() {
+        MatcherAssert.assertThat(
+                "partial statements have their own rows",
+                new MultiRowSql("name", this.parser, 7).sql(1),
+                Matchers.is("INSERT INTO name (first,second) VALUES (?,?);")
+        );
+    }
+}
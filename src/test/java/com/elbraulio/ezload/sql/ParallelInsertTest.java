@@ -0,0 +1,222 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.FileRanges;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link ParallelInsert}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class ParallelInsertTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "int_val", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void keepOrder() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            new ParallelInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 7,
+                    new ForkJoinPool(4), true
+            ).execute(connection, this.ranges(100, -1));
+            MatcherAssert.assertThat(
+                    "rows are inserted in the same order than the file",
+                    new ReadValue(
+                            "SELECT int_val FROM test ORDER BY rowid;",
+                            connection
+                    ).value(rs -> rs.getInt(1)).toString(),
+                    Matchers.is(this.expected(100))
+            );
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void anyOrder() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            MatcherAssert.assertThat(
+                    "every row is inserted",
+                    new ParallelInsert(
+                            this.parser, new SqlFromParser("test", this.parser),
+                            7, new ForkJoinPool(4), false
+                    ).execute(connection, this.ranges(100, -1)),
+                    Matchers.is(100L)
+            );
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void streamRangesInChunks() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            new ParallelInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 7,
+                    new ForkJoinPool(1), true
+            ).execute(connection, this.ranges(1000, -1, 1024L));
+            MatcherAssert.assertThat(
+                    "ranges bigger than the queues are streamed in order",
+                    new ReadValue(
+                            "SELECT int_val FROM test ORDER BY rowid;",
+                            connection
+                    ).value(rs -> rs.getInt(1)).toString(),
+                    Matchers.is(this.expected(1000))
+            );
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void globalLineOnErrors() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            new ParallelInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 7,
+                    new ForkJoinPool(4), false
+            ).execute(connection, this.ranges(100, 73));
+            fail();
+        } catch (SQLException | EzException | IOException e) {
+            MatcherAssert.assertThat(
+                    "errors keep the line number of the file",
+                    e.getMessage(),
+                    Matchers.is(
+                            "errors on row 73 --> [column 0: java.lang" +
+                                    ".NumberFormatException: For input " +
+                                    "string: \"x\"]"
+                    )
+            );
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Write a file with a number per line and split it on small ranges.
+     *
+     * @param lines number of lines.
+     * @param wrong line with a wrong value, -1 for none.
+     * @return file ranges.
+     * @throws IOException when the file can not be written.
+     */
+    private FileRanges ranges(int lines, int wrong) throws IOException {
+        return this.ranges(lines, wrong, 16L);
+    }
+
+    /**
+     * Write a file with a number per line and split it on ranges.
+     *
+     * @param lines number of lines.
+     * @param wrong line with a wrong value, -1 for none.
+     * @param size  range size.
+     * @return file ranges.
+     * @throws IOException when the file can not be written.
+     */
+    private FileRanges ranges(int lines, int wrong, long size)
+            throws IOException {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(i == wrong ? "x" : String.valueOf(i)).append('\n');
+        }
+        final Path path = this.folder.newFile().toPath();
+        Files.write(path, content.toString().getBytes(StandardCharsets.UTF_8));
+        return new FileRanges(path, StandardCharsets.UTF_8, size);
+    }
+
+    /**
+     * Numbers from 0 to lines - 1.
+     *
+     * @param lines number of lines.
+     * @return expected values.
+     */
+    private String expected(int lines) {
+        final StringBuilder values = new StringBuilder("[");
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                values.append(", ");
+            }
+            values.append(i);
+        }
+        return values.append(']').toString();
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.MappedFile;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import util.DropData;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link PipelinedInsert}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class PipelinedInsertTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "int_val", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void insertChunks() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            MatcherAssert.assertThat(
+                    "every chunk is inserted",
+                    new PipelinedInsert(
+                            this.parser, new SqlFromParser("test", this.parser),
+                            3, 1
+                    ).execute(connection, this.source(50, -1)),
+                    Matchers.is(50L)
+            );
+            MatcherAssert.assertThat(
+                    "rows keep the order of the source",
+                    new ReadValue(
+                            "SELECT int_val FROM test ORDER BY rowid " +
+                                    "LIMIT 5;",
+                            connection
+                    ).value(rs -> rs.getInt(1)).toString(),
+                    Matchers.is("[0, 1, 2, 3, 4]")
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void growChunkBuffers() {
+        final char[] zeros = new char[300];
+        Arrays.fill(zeros, '0');
+        try (Connection connection = new SqliteConnection().connection()) {
+            final Path path = this.folder.newFile().toPath();
+            final StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 100; i++) {
+                content.append(zeros).append(i).append('\n');
+            }
+            Files.write(
+                    path, content.toString().getBytes(StandardCharsets.UTF_8)
+            );
+            new PipelinedInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 60, 1
+            ).execute(connection, new MappedFile(path));
+            MatcherAssert.assertThat(
+                    "chunks bigger than their first buffers keep every record",
+                    new ReadValue(
+                            "SELECT count(*), sum(int_val) FROM test;",
+                            connection
+                    ).value(rs -> rs.getInt(1) + " " + rs.getInt(2)).get(0),
+                    Matchers.is("100 4950")
+            );
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void handRecordBytes() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            final Path path = this.folder.newFile().toPath();
+            final StringBuilder content = new StringBuilder();
+            for (int i = 0; i < 50; i++) {
+                content.append(i).append("\r\n");
+            }
+            Files.write(
+                    path, content.toString().getBytes(StandardCharsets.UTF_8)
+            );
+            MatcherAssert.assertThat(
+                    "records of mapped files are parsed from their bytes",
+                    new PipelinedInsert(
+                            this.parser, new SqlFromParser("test", this.parser),
+                            3, 1
+                    ).execute(connection, new MappedFile(path)),
+                    Matchers.is(50L)
+            );
+            MatcherAssert.assertThat(
+                    "rows keep the order of the file",
+                    new ReadValue(
+                            "SELECT sum(int_val) FROM test;", connection
+                    ).value(rs -> rs.getInt(1)).get(0),
+                    Matchers.is(1225)
+            );
+        } catch (SQLException | EzException | IOException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    @Test
+    public void lineOnErrors() {
+        try (Connection connection = new SqliteConnection().connection()) {
+            new PipelinedInsert(
+                    this.parser, new SqlFromParser("test", this.parser), 4, 1
+            ).execute(connection, this.source(50, 30));
+            fail();
+        } catch (SQLException | EzException e) {
+            MatcherAssert.assertThat(
+                    "errors keep the line number of the source",
+                    e.getMessage(),
+                    Matchers.is(
+                            "errors on row 30 --> [column 0: java.lang" +
+                                    ".NumberFormatException: For input " +
+                                    "string: \"x\"]"
+                    )
+            );
+        } finally {
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Source with a number per line.
+     *
+     * @param lines number of lines.
+     * @param wrong line with a wrong value, -1 for none.
+     * @return source.
+     */
+    private BufferedReader source(int lines, int wrong) {
+        final StringBuilder content = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            content.append(i == wrong ? "x" : String.valueOf(i)).append('\n');
+        }
+        return new BufferedReader(new StringReader(content.toString()));
+    }
+}
@@ -53,6 +53,26 @@ public class SqlFromParserTest {
         );
     }
 
+    @Test
+    public void tableName() {
+        MatcherAssert.assertThat(
+                "the table of the query is known",
+                new SqlFromParser(
+                        "name", new DefaultParseBuild(null, 0).parser()
+                ).table(),
+                CoreMatchers.is("name")
+        );
+    }
+
+    @Test
+    public void unknownTable() {
+        final BuildSql sql = () -> "INSERT INTO name (a) VALUES (?);";
+        MatcherAssert.assertThat(
+                "other queries do not name their table",
+                sql.table(), CoreMatchers.is("unknown")
+        );
+    }
+
     @Test
     public void singleColumn() {
         MatcherAssert.assertThat(
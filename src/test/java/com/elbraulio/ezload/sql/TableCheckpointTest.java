@@ -0,0 +1,170 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.EzReader;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link TableCheckpoint}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class TableCheckpointTest {
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "id", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void restartFromLastCommit()
+            throws IOException, SQLException, EzException {
+        final Path file = this.folder.newFile().toPath();
+        Files.write(file, "1\n2\n3\nx\n5\n".getBytes(StandardCharsets.UTF_8));
+        try (Connection connection = new SqliteConnection().connection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE numbers (id integer);");
+                statement.execute(
+                        "CREATE TEMP TABLE ezload_checkpoint (source text, " +
+                                "byte_offset bigint, line_number bigint);"
+                );
+            }
+            try {
+                this.load(connection, file);
+                fail();
+            } catch (EzException e) {
+                MatcherAssert.assertThat(
+                        "failed load keeps committed rows",
+                        this.numbers(connection), Matchers.is("[1, 2]")
+                );
+            }
+            Files.write(
+                    file, "1\n2\n3\n4\n5\n".getBytes(StandardCharsets.UTF_8)
+            );
+            MatcherAssert.assertThat(
+                    "restarted load reads the lines not committed",
+                    this.load(connection, file).read(), Matchers.is(3L)
+            );
+            MatcherAssert.assertThat(
+                    "every line is loaded once",
+                    this.numbers(connection), Matchers.is("[1, 2, 3, 4, 5]")
+            );
+            final TableCheckpoint checkpoint = new TableCheckpoint("numbers");
+            checkpoint.read(connection);
+            MatcherAssert.assertThat(
+                    "checkpoint is on the end of the file",
+                    checkpoint.offset() + " " + checkpoint.line(),
+                    Matchers.is("10 5")
+            );
+        }
+    }
+
+    @Test
+    public void createTableOnce() throws SQLException {
+        try (Connection connection = new SqliteConnection().connection()) {
+            try {
+                final TableCheckpoint checkpoint = new TableCheckpoint(
+                        "ezload_once", "source"
+                );
+                checkpoint.create(connection);
+                checkpoint.save(connection, 4L, 2L);
+                checkpoint.create(connection);
+                checkpoint.read(connection);
+                MatcherAssert.assertThat(
+                        "an existing table is kept",
+                        checkpoint.offset() + " " + checkpoint.line(),
+                        Matchers.is("4 2")
+                );
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP TABLE IF EXISTS ezload_once;");
+                }
+            }
+        }
+    }
+
+    /**
+     * Load the file from its checkpoint, committing every two rows.
+     *
+     * @param connection connection to data base.
+     * @param file       file to load.
+     * @return load result.
+     * @throws IOException  when the file can not be read.
+     * @throws SQLException when the checkpoint can not be read.
+     * @throws EzException  when the load fails.
+     */
+    private LoadResult load(Connection connection, Path file)
+            throws IOException, SQLException, EzException {
+        final TableCheckpoint checkpoint = new TableCheckpoint("numbers");
+        checkpoint.read(connection);
+        try (
+                EzReader reader = checkpoint.open(
+                        file, StandardCharsets.UTF_8
+                )
+        ) {
+            return new InsertFromParser(
+                    this.parser, new SqlFromParser("numbers", this.parser),
+                    new LoadOptions().chunks(1).commits(
+                            CommitPolicy.everyRows(2L)
+                    ).checkpoint(checkpoint)
+            ).load(connection, reader);
+        }
+    }
+
+    /**
+     * Numbers loaded.
+     *
+     * @param connection connection to data base.
+     * @return loaded numbers.
+     * @throws SQLException when the numbers can not be read.
+     */
+    private String numbers(Connection connection) throws SQLException {
+        return new ReadValue(
+                "SELECT id FROM numbers ORDER BY rowid;", connection
+        ).value(rs -> rs.getInt(1)).toString();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.sql;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.metrics.LoadListener;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.transform.ToInt;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import util.ReadValue;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link Transaction}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class TransactionTest {
+    private final Parser parser = EzLoad.parse(",", 1).withCol(
+            EzCol.integer(0, "id", new NoConstrain<>(), new ToInt())
+    ).parser();
+
+    @Test
+    public void keepCommittedRows() throws SQLException {
+        MatcherAssert.assertThat(
+                "rows committed before the failure are kept",
+                this.failedLoad(CommitPolicy.everyRows(2L)),
+                Matchers.is("[1, 2]")
+        );
+    }
+
+    @Test
+    public void rollbackSingleTransaction() throws SQLException {
+        MatcherAssert.assertThat(
+                "a failed load in a single transaction keeps nothing",
+                this.failedLoad(CommitPolicy.single()),
+                Matchers.is("[]")
+        );
+    }
+
+    @Test
+    public void commitEveryChunks() {
+        final CommitPolicy policy = CommitPolicy.everyChunks(2L);
+        MatcherAssert.assertThat(
+                "commit is due after the chunks",
+                policy.due(1L, 10L, 10L) + " " + policy.due(2L, 10L, 10L),
+                Matchers.is("false true")
+        );
+    }
+
+    @Test
+    public void reportCommitsOfConnection() throws SQLException, EzException {
+        MatcherAssert.assertThat(
+                "rows are committed only by an auto-commit connection",
+                this.committed(true) + " " + this.committed(false),
+                Matchers.is("3 0")
+        );
+    }
+
+    /**
+     * Rows told as committed by a load that leaves commits to the
+     * connection.
+     *
+     * @param autoCommit auto-commit mode of the connection.
+     * @return committed rows.
+     * @throws SQLException when the table can not be created.
+     * @throws EzException  when the load fails.
+     */
+    private long committed(boolean autoCommit)
+            throws SQLException, EzException {
+        try (Connection connection = new SqliteConnection().connection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE positive (id integer);");
+            }
+            connection.setAutoCommit(autoCommit);
+            final long[] committed = new long[1];
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("positive", this.parser),
+                    new LoadOptions().chunks(2).listener(
+                            new LoadListener() {
+                                @Override
+                                public void committed(long rows) {
+                                    committed[0] += rows;
+                                }
+                            }
+                    )
+            ).load(
+                    connection,
+                    new BufferedLines(
+                            new BufferedReader(new StringReader("1\n2\n3"))
+                    )
+            );
+            if (!autoCommit) {
+                connection.rollback();
+            }
+            return committed[0];
+        }
+    }
+
+    /**
+     * Load a source whose third row is refused by the data base.
+     *
+     * @param policy commit policy.
+     * @return rows kept after the failure.
+     * @throws SQLException when the rows can not be read.
+     */
+    private String failedLoad(CommitPolicy policy) throws SQLException {
+        try (Connection connection = new SqliteConnection().connection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(
+                        "CREATE TEMP TABLE positive " +
+                                "(id integer CHECK (id > 0));"
+                );
+            }
+            try {
+                new InsertFromParser(
+                        this.parser, new SqlFromParser("positive", this.parser),
+                        new LoadOptions().chunks(1).commits(policy)
+                ).load(
+                        connection,
+                        new BufferedLines(
+                                new BufferedReader(
+                                        new StringReader("1\n2\n-3\n4")
+                                )
+                        )
+                );
+                fail();
+            } catch (EzException e) {
+                MatcherAssert.assertThat(
+                        "auto-commit is restored",
+                        connection.getAutoCommit(), Matchers.is(true)
+                );
+            }
+            return new ReadValue(
+                    "SELECT id FROM positive ORDER BY rowid;", connection
+            ).value(rs -> rs.getInt(1)).toString();
+        }
+    }
+}
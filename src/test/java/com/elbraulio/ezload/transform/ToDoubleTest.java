@@ -24,10 +24,14 @@
 
 package com.elbraulio.ezload.transform;
 
+import com.elbraulio.ezload.field.Field;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Unit test for {@link ToDouble}.
  *
@@ -42,4 +46,74 @@ public class ToDoubleTest {
                 CoreMatchers.is(1.09)
         );
     }
+
+    @Test
+    public void fromField() {
+        MatcherAssert.assertThat(
+                "transform raw bytes to double",
+                new ToDouble().from(ToDoubleTest.field("-1.09")),
+                CoreMatchers.is(-1.09)
+        );
+    }
+
+    @Test
+    public void exponentFromField() {
+        MatcherAssert.assertThat(
+                "other formats are also supported",
+                new ToDouble().from(ToDoubleTest.field("1.5e3")),
+                CoreMatchers.is(1500.0)
+        );
+    }
+
+    @Test
+    public void markWrongFields() {
+        for (String text : new String[]{"4x2", "1.2.3", "-", "1e", "."}) {
+            final Field field = ToDoubleTest.field(text);
+            new ToDouble().readDouble(field);
+            MatcherAssert.assertThat(
+                    "wrong fields are marked instead of throwing: " + text,
+                    field.isInvalid(),
+                    CoreMatchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    public void doNotMarkOtherFormats() {
+        for (String text : new String[]{"NaN", "-Infinity", "1e-3", "-.5d",
+                " 2 ", "0x1p3", "1."}) {
+            final Field field = ToDoubleTest.field(text);
+            MatcherAssert.assertThat(
+                    "formats of Double.parseDouble are read: " + text,
+                    new ToDouble().readDouble(field),
+                    CoreMatchers.is(Double.parseDouble(text))
+            );
+        }
+    }
+
+    @Test
+    public void sameErrorFromField() {
+        try {
+            new ToDouble().from(ToDoubleTest.field("4x2"));
+        } catch (NumberFormatException e) {
+            MatcherAssert.assertThat(
+                    "same error than parsing a String",
+                    e.getMessage(),
+                    CoreMatchers.is("For input string: \"4x2\"")
+            );
+        }
+    }
+
+    /**
+     * Field with the whole text.
+     *
+     * @param text field text.
+     * @return field.
+     */
+    private static Field field(String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new Field(StandardCharsets.UTF_8).window(
+                ByteBuffer.wrap(bytes), 0, bytes.length
+        );
+    }
 }
\ No newline at end of file
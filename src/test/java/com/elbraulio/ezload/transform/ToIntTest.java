@@ -24,10 +24,14 @@
 
 package com.elbraulio.ezload.transform;
 
+import com.elbraulio.ezload.field.Field;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Unit test for {@link ToInt}.
  *
@@ -42,4 +46,55 @@ public class ToIntTest {
                 CoreMatchers.is(42)
         );
     }
+
+    @Test
+    public void fromField() {
+        MatcherAssert.assertThat(
+                "transform raw bytes to integer",
+                new ToInt().from(ToIntTest.field("-2147483648")),
+                CoreMatchers.is(Integer.MIN_VALUE)
+        );
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void overflowFromField() {
+        new ToInt().from(ToIntTest.field("2147483648"));
+    }
+
+    @Test
+    public void sameErrorFromField() {
+        try {
+            new ToInt().from(ToIntTest.field("4x2"));
+        } catch (NumberFormatException e) {
+            MatcherAssert.assertThat(
+                    "same error than parsing a String",
+                    e.getMessage(),
+                    CoreMatchers.is("For input string: \"4x2\"")
+            );
+        }
+    }
+
+    @Test
+    public void markWrongFields() {
+        final Field field = ToIntTest.field("4x2");
+        new ToInt().readInt(field);
+        MatcherAssert.assertThat(
+                "wrong fields are marked instead of throwing",
+                field.isInvalid(),
+                CoreMatchers.is(true)
+        );
+    }
+
+    /**
+     * Field with the whole text.
+     *
+     * @param text field text.
+     * @return field.
+     */
+    private static Field field(String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new Field(StandardCharsets.UTF_8).window(
+                ByteBuffer.wrap(bytes), 0, bytes.length
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.elbraulio.ezload.transform;
+
+import com.elbraulio.ezload.field.Field;
+import org.hamcrest.CoreMatchers;
+import org.hamcrest.MatcherAssert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit test for {@link ToLong}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class ToLongTest {
+    @Test
+    public void doNotChangeTheOriginalValue() {
+        MatcherAssert.assertThat(
+                "transform raw value to long",
+                new ToLong().from("42"),
+                CoreMatchers.is(42L)
+        );
+    }
+
+    @Test
+    public void fromField() {
+        MatcherAssert.assertThat(
+                "transform raw bytes to long",
+                new ToLong().from(ToLongTest.field("-9223372036854775808")),
+                CoreMatchers.is(Long.MIN_VALUE)
+        );
+    }
+
+    @Test(expected = NumberFormatException.class)
+    public void overflowFromField() {
+        new ToLong().from(ToLongTest.field("9223372036854775808"));
+    }
+
+    @Test
+    public void sameErrorFromField() {
+        try {
+            new ToLong().from(ToLongTest.field("4x2"));
+        } catch (NumberFormatException e) {
+            MatcherAssert.assertThat(
+                    "same error than parsing a String",
+                    e.getMessage(),
+                    CoreMatchers.is("For input string: \"4x2\"")
+            );
+        }
+    }
+
+    /**
+     * Field with the whole text.
+     *
+     * @param text field text.
+     * @return field.
+     */
+    private static Field field(String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        return new Field(StandardCharsets.UTF_8).window(
+                ByteBuffer.wrap(bytes), 0, bytes.length
+        );
+    }
+}
\ No newline at end of file
@@ -24,6 +24,9 @@
 
 package util;
 
+import org.sqlite.SQLiteDataSource;
+
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -46,4 +49,15 @@ public final class SqliteConnection {
                 "jdbc:sqlite:src/test/resources/test.db"
         );
     }
+
+    /**
+     * Data source of connections to the resource.
+     *
+     * @return test db data source.
+     */
+    public DataSource dataSource() {
+        final SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:src/test/resources/test.db");
+        return dataSource;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2019 Braulio López
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.elbraulio.ezload.metrics;
+
+import com.elbraulio.ezload.EzCol;
+import com.elbraulio.ezload.EzLoad;
+import com.elbraulio.ezload.constrain.NoConstrain;
+import com.elbraulio.ezload.exception.EzException;
+import com.elbraulio.ezload.parse.Parser;
+import com.elbraulio.ezload.reader.BufferedLines;
+import com.elbraulio.ezload.reject.Rejects;
+import com.elbraulio.ezload.reject.Tolerance;
+import com.elbraulio.ezload.sql.InsertFromParser;
+import com.elbraulio.ezload.sql.LoadOptions;
+import com.elbraulio.ezload.sql.SqlFromParser;
+import com.elbraulio.ezload.transform.ToInt;
+import com.elbraulio.ezload.transform.ToString;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Test;
+import util.DropData;
+import util.SqliteConnection;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Unit test for {@link JfrListener}.
+ *
+ * @author Braulio Lopez (brauliop.3@gmail.com)
+ */
+public class JfrListenerTest {
+    private final Parser parser = EzLoad.parse(",", 2).withCol(
+            EzCol.primitiveInt(
+                    0, "int_val", new NoConstrain<>(), new ToInt()
+            )
+    ).withCol(
+            EzCol.string(1, "string_val", new NoConstrain<>(), new ToString())
+    ).parser();
+
+    @Test
+    public void recordLoad() throws IOException {
+        Assume.assumeTrue(JfrEvents.available());
+        final Path file = Files.createTempFile("ezload", ".jfr");
+        try (
+                Connection connection = new SqliteConnection().connection();
+                Recording recording = new Recording()
+        ) {
+            recording.enable("ezload.Load");
+            recording.enable("ezload.Chunk");
+            recording.enable("ezload.Batch");
+            recording.enable("ezload.Reject");
+            recording.start();
+            new InsertFromParser(
+                    this.parser, new SqlFromParser("test", this.parser),
+                    new LoadOptions().chunks(2).rejects(
+                            Rejects.NONE, new Tolerance(1L)
+                    )
+            ).load(connection, this.reader("1,a\nx,b\n3,c\n4,d"));
+            recording.stop();
+            recording.dump(file);
+            final List<String> names = RecordingFile.readAllEvents(file)
+                    .stream().map(event -> event.getEventType().getName())
+                    .collect(Collectors.toList());
+            MatcherAssert.assertThat(
+                    "every load records its chunks, batches and rejects",
+                    names,
+                    Matchers.containsInAnyOrder(
+                            "ezload.Reject", "ezload.Chunk", "ezload.Batch",
+                            "ezload.Chunk", "ezload.Batch", "ezload.Load"
+                    )
+            );
+            final RecordedEvent load = RecordingFile.readAllEvents(file)
+                    .stream().filter(
+                            event -> "ezload.Load".equals(
+                                    event.getEventType().getName()
+                            )
+                    ).findFirst().get();
+            MatcherAssert.assertThat(
+                    "load event has its table and rows",
+                    load.getString("table") + " " + load.getLong("rows"),
+                    Matchers.is("test 3")
+            );
+        } catch (SQLException | EzException e) {
+            e.printStackTrace();
+            fail();
+        } finally {
+            Files.deleteIfExists(file);
+            try {
+                new DropData("test", new SqliteConnection().connection())
+                        .drop();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Reader of a text.
+     *
+     * @param text source.
+     * @return reader.
+     */
+    private BufferedLines reader(String text) {
+        return new BufferedLines(new BufferedReader(new StringReader(text)));
+    }
+}